@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.benchmark;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.cucumber.NestedStep;
+import com.epam.reportportal.cucumber.integration.NoOpLaunchReporter;
+import com.epam.reportportal.cucumber.integration.util.FeatureGenerator;
+import com.epam.reportportal.cucumber.integration.util.SyntheticEvents;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.plugin.event.TestStepStarted;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares startup cost of nested step reporting with {@link NestedStep} API and with {@link Step} annotation, which needs
+ * AspectJ load-time weaving. Each fork reports one Scenario with nested steps in a fresh JVM, so the measured time includes
+ * class loading, and class weaving for {@link Weaving} benchmark.
+ * <p>
+ * The <code>jmh</code> Gradle task copies the weaver to <code>build/jmh-agents</code>, run it with
+ * <code>-PjmhInclude=NestedStepStartupBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public abstract class NestedStepStartupBenchmark {
+	private static final int STEPS = 5;
+
+	/**
+	 * Nested steps reported with {@link NestedStep} API in a JVM without an agent.
+	 */
+	@Fork(10)
+	public static class Api extends NestedStepStartupBenchmark {
+		@Override
+		protected void stepCode() {
+			NestedStep.run("A step inside step", () -> NestedStep.run("A step inside nested step", () -> {
+			}));
+		}
+	}
+
+	/**
+	 * Nested steps reported with {@link Step} annotation in a JVM with AspectJ weaver agent.
+	 */
+	@Fork(value = 10, jvmArgsAppend = "-javaagent:build/jmh-agents/aspectjweaver.jar")
+	public static class Weaving extends NestedStepStartupBenchmark {
+		@Override
+		protected void stepCode() {
+			aStepInsideStep();
+		}
+
+		@Step("A step inside step")
+		public void aStepInsideStep() {
+			aStepInsideNestedStep();
+		}
+
+		@Step("A step inside nested step")
+		public void aStepInsideNestedStep() {
+		}
+	}
+
+	/**
+	 * Code of each Step of the Scenario.
+	 */
+	protected abstract void stepCode();
+
+	/**
+	 * Reports the first Scenario in the JVM, the code of each Step reports nested steps.
+	 */
+	@Benchmark
+	public void firstScenario() {
+		Feature feature = SyntheticEvents.parseFeature("benchmark/NestedStepStartupBenchmark.feature", FeatureGenerator.scenarios(1, STEPS));
+		NoOpLaunchReporter reporter = new NoOpLaunchReporter();
+		SyntheticEvents events = new SyntheticEvents();
+		reporter.setEventPublisher(events);
+		events.startRun(Collections.singletonList(feature));
+		SyntheticEvents.testCaseEvents(SyntheticEvents.testCases(feature).get(0)).forEach(event -> {
+			events.publish(event);
+			if (event instanceof TestStepStarted) {
+				stepCode();
+			}
+		});
+		events.finishRun();
+	}
+}
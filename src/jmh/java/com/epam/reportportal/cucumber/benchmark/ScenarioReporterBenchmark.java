@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.benchmark;
+
+import com.epam.reportportal.cucumber.integration.NoOpLaunchReporter;
+import com.epam.reportportal.cucumber.integration.util.SyntheticEvents;
+import io.cucumber.core.gherkin.Feature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of reporting a Scenario: Test Case start, start and finish of each Step and Test Case finish events are fed
+ * through {@link com.epam.reportportal.cucumber.ScenarioReporter} to a no-op Launch. Run with <code>-prof gc</code> (the
+ * <code>jmh</code> Gradle task does it) to get <code>gc.alloc.rate.norm</code>, which is bytes allocated per Scenario.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScenarioReporterBenchmark {
+	private static final String FEATURE_PATH = "benchmark/ScenarioReporterBenchmark.feature";
+	private static final int ARGUMENT_LINES = 20;
+
+	/**
+	 * Step argument type of each Step in the Scenario.
+	 */
+	public enum StepArgument {
+		NONE,
+		DOC_STRING,
+		DATA_TABLE
+	}
+
+	@Param({ "5", "50" })
+	public int steps;
+
+	@Param({ "NONE", "DOC_STRING", "DATA_TABLE" })
+	public StepArgument argument;
+
+	private SyntheticEvents events;
+	private List<Object> scenarioEvents;
+
+	private String buildFeature() {
+		StringBuilder source = new StringBuilder("Feature: Benchmark feature\n\n  Scenario: Benchmark scenario\n");
+		for (int i = 0; i < steps; i++) {
+			source.append("    Given benchmark step ").append(i).append('\n');
+			if (argument == StepArgument.DOC_STRING) {
+				source.append("      \"\"\"\n");
+				for (int j = 0; j < ARGUMENT_LINES; j++) {
+					source.append("      Doc string line ").append(j).append('\n');
+				}
+				source.append("      \"\"\"\n");
+			} else if (argument == StepArgument.DATA_TABLE) {
+				for (int j = 0; j < ARGUMENT_LINES; j++) {
+					source.append("      | key ").append(j).append(" | value ").append(j).append(" |\n");
+				}
+			}
+		}
+		return source.toString();
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Feature feature = SyntheticEvents.parseFeature(FEATURE_PATH, buildFeature());
+		NoOpLaunchReporter reporter = new NoOpLaunchReporter();
+		events = new SyntheticEvents();
+		reporter.setEventPublisher(events);
+		events.startRun(Collections.singletonList(feature));
+		scenarioEvents = SyntheticEvents.testCaseEvents(SyntheticEvents.testCases(feature).get(0));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		events.finishRun();
+	}
+
+	/**
+	 * Reports one Scenario. The same Scenario is reported on each invocation, so the Feature context lookup and request
+	 * building paths are exercised with a warm Feature context.
+	 */
+	@Benchmark
+	public void scenario() {
+		events.publishAll(scenarioEvents);
+	}
+}
@@ -16,6 +16,7 @@
 
 package com.epam.reportportal.cucumber;
 
+import com.epam.reportportal.utils.MemoizingSupplier;
 import io.cucumber.core.gherkin.Feature;
 import io.cucumber.plugin.event.Node;
 import io.reactivex.Maybe;
@@ -23,6 +24,9 @@ import jakarta.annotation.Nonnull;
 
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static java.util.Optional.ofNullable;
 
@@ -31,31 +35,41 @@ public class FeatureContext {
 	private final Feature feature;
 	private final Map<Integer, ScenarioContext> scenarios = new HashMap<>();
 	private final Set<String> tags;
+	private final List<RuleContext> rules = new ArrayList<>();
+	private final AtomicInteger unfinishedScenarios = new AtomicInteger();
+	private final AtomicBoolean finished = new AtomicBoolean();
+	private final Supplier<List<String>> lines;
 
-	private Maybe<String> id = Maybe.empty();
-	private RuleContext currentRule;
+	private volatile Maybe<String> id = Maybe.empty();
+	private volatile RuleContext currentRule;
 
 	private void handleNode(@Nonnull Deque<RuleContext> ruleQueue, @Nonnull URI uri, @Nonnull Node node) {
 		if (node instanceof Node.Rule) {
 			Node.Rule rule = (Node.Rule) node;
 			RuleContext ruleContext = new RuleContext(uri, (Node.Rule) node);
 			ruleQueue.add(ruleContext);
+			rules.add(ruleContext);
 			rule.elements().forEach(n -> handleNode(ruleQueue, uri, n));
 		}
 		if (node instanceof Node.Scenario) {
 			Node.Scenario scenario = (Node.Scenario) node;
 			int line = scenario.getLocation().getLine();
-			scenarios.put(line, new ScenarioContext(ruleQueue.peekLast(), scenario));
+			addScenario(line, new ScenarioContext(ruleQueue.peekLast(), scenario));
 		}
 		if (node instanceof Node.ScenarioOutline) {
 			Node.ScenarioOutline scenarioOutline = (Node.ScenarioOutline) node;
 			scenarioOutline.elements()
 					.stream()
 					.flatMap(e -> e.elements().stream())
-					.forEach(e -> scenarios.put(e.getLocation().getLine(), new ScenarioContext(ruleQueue.peekLast(), scenarioOutline)));
+					.forEach(e -> addScenario(e.getLocation().getLine(), new ScenarioContext(ruleQueue.peekLast(), scenarioOutline)));
 		}
 	}
 
+	private void addScenario(int line, @Nonnull ScenarioContext scenario) {
+		scenarios.put(line, scenario);
+		scenario.getRule().ifPresent(RuleContext::addScenario);
+	}
+
 	private <T extends Node> void handleNodes(@Nonnull URI uri, @Nonnull Collection<T> nodes) {
 		Deque<RuleContext> ruleQueue = new LinkedList<>();
 		nodes.forEach(n -> handleNode(ruleQueue, uri, n));
@@ -65,6 +79,8 @@ public class FeatureContext {
 		feature = featureNode;
 		handleNodes(feature.getUri(), featureNode.elements());
 		tags = Utils.getTags(featureNode);
+		unfinishedScenarios.set(scenarios.size());
+		lines = new MemoizingSupplier<>(() -> new SourceLines(featureNode.getSource()));
 	}
 
 	@Nonnull
@@ -77,6 +93,17 @@ public class FeatureContext {
 		return feature.getUri();
 	}
 
+	/**
+	 * Returns lines of the feature source. Line offsets are indexed once per feature, lines are cut on access, so looking up
+	 * a line of a Scenario doesn't depend on the feature size.
+	 *
+	 * @return feature source lines
+	 */
+	@Nonnull
+	public List<String> getLines() {
+		return lines.get();
+	}
+
 	@Nonnull
 	public Set<String> getTags() {
 		return tags;
@@ -96,21 +123,103 @@ public class FeatureContext {
 		return ofNullable(scenarios.get(line));
 	}
 
+	/**
+	 * @return the rule set with {@link #setCurrentRule(RuleContext)}
+	 * @deprecated Scenarios of different rules may run in parallel, so there is no single current rule. Use
+	 * {@link ScenarioContext#getRule()} or {@link #getRules()} instead.
+	 */
+	@Deprecated
 	@Nonnull
 	public Optional<RuleContext> getCurrentRule() {
 		return ofNullable(currentRule);
 	}
 
+	/**
+	 * @param rule a rule context
+	 * @deprecated The agent does not track the current rule anymore, see {@link #getCurrentRule()}.
+	 */
+	@Deprecated
 	public void setCurrentRule(@Nonnull RuleContext rule) {
 		currentRule = rule;
 	}
 
 	/**
-	 * Checks whether all scenarios in this feature have finished execution.
+	 * @return all rules of the feature, in the order of declaration
+	 */
+	@Nonnull
+	public List<RuleContext> getRules() {
+		return Collections.unmodifiableList(rules);
+	}
+
+	/**
+	 * Marks the scenario of this feature as finished.
+	 *
+	 * @param scenario scenario context
+	 */
+	public void finishScenario(@Nonnull ScenarioContext scenario) {
+		if (!scenario.finished()) {
+			scenario.finish();
+			scenario.getRule().ifPresent(RuleContext::finishScenario);
+			unfinishedScenarios.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Checks whether all scenarios in this feature have finished execution. The check takes constant time, since scenarios
+	 * are counted as they are finished with {@link #finishScenario(ScenarioContext)}.
 	 *
 	 * @return true if every {@link ScenarioContext} is marked as finished, false otherwise
 	 */
 	public boolean isComplete() {
-		return scenarios.values().stream().allMatch(ScenarioContext::finished);
+		return unfinishedScenarios.get() <= 0;
+	}
+
+	/**
+	 * Marks the feature as finished. Last scenarios of a feature may finish in parallel and see the feature complete at the
+	 * same time, only one of them gets true.
+	 *
+	 * @return true if the feature was not marked as finished before, so its item should be finished by the caller
+	 */
+	public boolean finish() {
+		return finished.compareAndSet(false, true);
+	}
+
+	private static final class SourceLines extends AbstractList<String> implements RandomAccess {
+		private final String source;
+		private final int[] starts;
+
+		private SourceLines(@Nonnull String source) {
+			this.source = source;
+			int count = 1;
+			for (int i = 0; i < source.length(); i++) {
+				if (source.charAt(i) == '\n') {
+					count++;
+				}
+			}
+			starts = new int[count + 1];
+			int line = 1;
+			for (int i = 0; i < source.length(); i++) {
+				if (source.charAt(i) == '\n') {
+					starts[line++] = i + 1;
+				}
+			}
+			starts[count] = source.length() + 1;
+		}
+
+		@Override
+		public String get(int index) {
+			Objects.checkIndex(index, size());
+			int start = starts[index];
+			int end = starts[index + 1] - 1;
+			if (end > start && source.charAt(end - 1) == '\r') {
+				end--;
+			}
+			return source.substring(start, end);
+		}
+
+		@Override
+		public int size() {
+			return starts.length - 1;
+		}
 	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Reports a block of Step code as a nested step of the current Step, through the {@link ScenarioReporter} of the current
+ * thread. This is an alternative to {@link com.epam.reportportal.annotations.Step} annotation, which does not need AspectJ
+ * load-time weaving:
+ * <pre>{@code
+ * @Given("I have a step")
+ * public void i_have_a_step() {
+ *     NestedStep.run("Open the login page", () -> loginPage.open());
+ *     String user = NestedStep.call("Create a user", () -> users.create());
+ * }
+ * }</pre>
+ * Nested steps can be nested into each other. A nested step is failed if its code throws an exception. If there is no
+ * reporter or no running Step on the current thread, the code is just executed.
+ */
+public final class NestedStep {
+
+	/**
+	 * Nested step code without a result.
+	 *
+	 * @param <E> exception type
+	 */
+	@FunctionalInterface
+	public interface Action<E extends Throwable> {
+		void run() throws E;
+	}
+
+	/**
+	 * Nested step code with a result.
+	 *
+	 * @param <T> result type
+	 * @param <E> exception type
+	 */
+	@FunctionalInterface
+	public interface Computation<T, E extends Throwable> {
+		T call() throws E;
+	}
+
+	private NestedStep() {
+		throw new AssertionError("No instances should exist for the class!");
+	}
+
+	/**
+	 * Executes the code as a nested step.
+	 *
+	 * @param name   nested step name
+	 * @param action nested step code
+	 * @param <E>    exception type
+	 * @throws E if the code throws it
+	 */
+	public static <E extends Throwable> void run(@Nonnull String name, @Nonnull Action<E> action) throws E {
+		call(
+				name, () -> {
+					action.run();
+					return null;
+				}
+		);
+	}
+
+	/**
+	 * Executes the code as a nested step and returns its result.
+	 *
+	 * @param name        nested step name
+	 * @param computation nested step code
+	 * @param <T>         result type
+	 * @param <E>         exception type
+	 * @return the code result
+	 * @throws E if the code throws it
+	 */
+	public static <T, E extends Throwable> T call(@Nonnull String name, @Nonnull Computation<T, E> computation) throws E {
+		ScenarioReporter reporter = ScenarioReporter.getCurrent();
+		if (reporter == null) {
+			return computation.call();
+		}
+		Maybe<String> stepId = reporter.startNestedStep(name);
+		ItemStatus status = ItemStatus.FAILED;
+		try {
+			T result = computation.call();
+			status = ItemStatus.PASSED;
+			return result;
+		} finally {
+			reporter.finishNestedStep(stepId, status);
+		}
+	}
+}
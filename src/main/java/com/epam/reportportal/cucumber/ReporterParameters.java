@@ -0,0 +1,469 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Cucumber agent specific parameters, which are not covered by the client's
+ * {@link com.epam.reportportal.listeners.ListenerParameters}. The parameters are read from the same
+ * <code>reportportal.properties</code> file, system properties and environment variables as the client ones.
+ */
+public class ReporterParameters {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReporterParameters.class);
+
+	public static final String REPORTING_MODE = "rp.cucumber.reporting.mode";
+	public static final String ATTACHMENT_SPILL_THRESHOLD = "rp.cucumber.attachment.spill.threshold";
+	public static final String ATTACHMENT_DEDUPLICATION = "rp.cucumber.attachment.dedup.enabled";
+	public static final String ATTACHMENT_DEDUPLICATION_MAX_ENTRIES = "rp.cucumber.attachment.dedup.max.entries";
+	public static final String ATTACHMENT_DEDUPLICATION_MAX_MEMORY = "rp.cucumber.attachment.dedup.max.memory";
+	public static final String ATTACHMENT_COMPRESSION_THRESHOLD = "rp.cucumber.attachment.compression.threshold";
+	public static final String ATTACHMENT_COMPRESSION_TYPES = "rp.cucumber.attachment.compression.types";
+	public static final String LOG_LEVEL = "rp.cucumber.log.level";
+	public static final String LOG_AGGREGATION = "rp.cucumber.log.aggregation.enabled";
+	public static final String LOG_AGGREGATION_TIME_WINDOW = "rp.cucumber.log.aggregation.time.window";
+	public static final String LOG_AGGREGATION_SIZE_WINDOW = "rp.cucumber.log.aggregation.size.window";
+	public static final String ERROR_DEDUPLICATION = "rp.cucumber.error.dedup.enabled";
+	public static final String ERROR_DEDUPLICATION_FRAMES = "rp.cucumber.error.dedup.frames";
+	public static final String ERROR_DEDUPLICATION_MAX_ENTRIES = "rp.cucumber.error.dedup.max.entries";
+	public static final String SCENARIO_LOG_QUOTA_COUNT = "rp.cucumber.log.quota.scenario.count";
+	public static final String SCENARIO_LOG_QUOTA_BYTES = "rp.cucumber.log.quota.scenario.bytes";
+	public static final String LAUNCH_LOG_QUOTA_COUNT = "rp.cucumber.log.quota.launch.count";
+	public static final String LAUNCH_LOG_QUOTA_BYTES = "rp.cucumber.log.quota.launch.bytes";
+	public static final String STEP_ARGUMENT_MAX_LENGTH = "rp.cucumber.step.argument.max.length";
+	public static final String METRICS = "rp.cucumber.metrics.enabled";
+	public static final String ERROR_MAX_FRAMES = "rp.cucumber.error.max.frames";
+	public static final String ERROR_MAX_CAUSE_DEPTH = "rp.cucumber.error.max.cause.depth";
+	public static final String SUMMARY_FILE = "rp.cucumber.summary.file";
+	public static final String LAUNCH_SHARED_DIR = "rp.cucumber.launch.shared.dir";
+
+	private static final String LIST_SEPARATOR = ",";
+
+	/**
+	 * Reporting granularity of the agent.
+	 */
+	public enum ReportingMode {
+		/**
+		 * Every Step and Hook is reported as a separate nested item of a Scenario.
+		 */
+		STEP,
+
+		/**
+		 * Only Feature, Rule and Scenario items are reported. Steps and Hooks are folded into a single summary log of a Scenario.
+		 */
+		SCENARIO
+	}
+
+	private ReportingMode reportingMode = ReportingMode.STEP;
+	private long attachmentSpillThreshold = 0;
+	private boolean attachmentDeduplication = false;
+	private int attachmentDeduplicationMaxEntries = 10_000;
+	private long attachmentDeduplicationMaxMemory = 2 * 1024 * 1024;
+	private long attachmentCompressionThreshold = 0;
+	private List<String> attachmentCompressionTypes = Arrays.asList("text/*", "application/json", "application/xml");
+	private LogLevel logLevel = LogLevel.TRACE;
+	private boolean logAggregation = false;
+	private long logAggregationTimeWindow = 1000;
+	private int logAggregationSizeWindow = 64 * 1024;
+	private boolean errorDeduplication = false;
+	private int errorDeduplicationFrames = 10;
+	private int errorDeduplicationMaxEntries = 1000;
+	private long scenarioLogQuotaCount = 0;
+	private long scenarioLogQuotaBytes = 0;
+	private long launchLogQuotaCount = 0;
+	private long launchLogQuotaBytes = 0;
+	private int stepArgumentMaxLength = 0;
+	private boolean metrics = false;
+	private int errorMaxFrames = 0;
+	private int errorMaxCauseDepth = -1;
+	private String summaryFile;
+	private String launchSharedDir;
+
+	/**
+	 * Creates parameters object with default values.
+	 */
+	public ReporterParameters() {
+	}
+
+	/**
+	 * Creates parameters object and reads values from the given properties.
+	 *
+	 * @param properties ReportPortal properties
+	 */
+	public ReporterParameters(@Nonnull PropertiesLoader properties) {
+		reportingMode = getEnum(properties, REPORTING_MODE, ReportingMode.class, reportingMode);
+		attachmentSpillThreshold = getLong(properties, ATTACHMENT_SPILL_THRESHOLD, attachmentSpillThreshold);
+		attachmentDeduplication = getBoolean(properties, ATTACHMENT_DEDUPLICATION, attachmentDeduplication);
+		attachmentDeduplicationMaxEntries = (int) getLong(
+				properties,
+				ATTACHMENT_DEDUPLICATION_MAX_ENTRIES,
+				attachmentDeduplicationMaxEntries
+		);
+		attachmentDeduplicationMaxMemory = getLong(properties, ATTACHMENT_DEDUPLICATION_MAX_MEMORY, attachmentDeduplicationMaxMemory);
+		attachmentCompressionThreshold = getLong(properties, ATTACHMENT_COMPRESSION_THRESHOLD, attachmentCompressionThreshold);
+		attachmentCompressionTypes = getList(properties, ATTACHMENT_COMPRESSION_TYPES, attachmentCompressionTypes);
+		logLevel = getEnum(properties, LOG_LEVEL, LogLevel.class, logLevel);
+		logAggregation = getBoolean(properties, LOG_AGGREGATION, logAggregation);
+		logAggregationTimeWindow = getLong(properties, LOG_AGGREGATION_TIME_WINDOW, logAggregationTimeWindow);
+		logAggregationSizeWindow = (int) getLong(properties, LOG_AGGREGATION_SIZE_WINDOW, logAggregationSizeWindow);
+		errorDeduplication = getBoolean(properties, ERROR_DEDUPLICATION, errorDeduplication);
+		errorDeduplicationFrames = (int) getLong(properties, ERROR_DEDUPLICATION_FRAMES, errorDeduplicationFrames);
+		errorDeduplicationMaxEntries = (int) getLong(properties, ERROR_DEDUPLICATION_MAX_ENTRIES, errorDeduplicationMaxEntries);
+		scenarioLogQuotaCount = getLong(properties, SCENARIO_LOG_QUOTA_COUNT, scenarioLogQuotaCount);
+		scenarioLogQuotaBytes = getLong(properties, SCENARIO_LOG_QUOTA_BYTES, scenarioLogQuotaBytes);
+		launchLogQuotaCount = getLong(properties, LAUNCH_LOG_QUOTA_COUNT, launchLogQuotaCount);
+		launchLogQuotaBytes = getLong(properties, LAUNCH_LOG_QUOTA_BYTES, launchLogQuotaBytes);
+		stepArgumentMaxLength = (int) getLong(properties, STEP_ARGUMENT_MAX_LENGTH, stepArgumentMaxLength);
+		metrics = getBoolean(properties, METRICS, metrics);
+		errorMaxFrames = (int) getLong(properties, ERROR_MAX_FRAMES, errorMaxFrames);
+		errorMaxCauseDepth = (int) getLong(properties, ERROR_MAX_CAUSE_DEPTH, errorMaxCauseDepth);
+		summaryFile = getString(properties, SUMMARY_FILE);
+		launchSharedDir = getString(properties, LAUNCH_SHARED_DIR);
+	}
+
+	@Nonnull
+	protected static List<String> getList(@Nonnull PropertiesLoader properties, @Nonnull String name,
+			@Nonnull List<String> defaultValue) {
+		return ofNullable(getString(properties, name)).map(v -> Arrays.stream(v.split(LIST_SEPARATOR))
+				.map(String::trim)
+				.filter(s -> !s.isEmpty())
+				.collect(Collectors.toList())).orElse(defaultValue);
+	}
+
+	protected static boolean getBoolean(@Nonnull PropertiesLoader properties, @Nonnull String name, boolean defaultValue) {
+		return ofNullable(getString(properties, name)).map(Boolean::parseBoolean).orElse(defaultValue);
+	}
+
+	protected static long getLong(@Nonnull PropertiesLoader properties, @Nonnull String name, long defaultValue) {
+		String value = getString(properties, name);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			LOGGER.warn("Invalid numeric value '{}' of '{}' property, using default: {}", value, name, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	@Nonnull
+	protected static <T extends Enum<T>> T getEnum(@Nonnull PropertiesLoader properties, @Nonnull String name,
+			@Nonnull Class<T> type, @Nonnull T defaultValue) {
+		String value = getString(properties, name);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			LOGGER.warn("Unknown value '{}' of '{}' property, using default: {}", value, name, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	@Nullable
+	protected static String getString(@Nonnull PropertiesLoader properties, @Nonnull String name) {
+		return ofNullable(properties.getProperty(name)).map(String::trim).filter(v -> !v.isEmpty()).orElse(null);
+	}
+
+	@Nonnull
+	public ReportingMode getReportingMode() {
+		return reportingMode;
+	}
+
+	public void setReportingMode(@Nonnull ReportingMode reportingMode) {
+		this.reportingMode = reportingMode;
+	}
+
+	/**
+	 * @return attachment size in bytes, above which attachment data is moved to a temporary file until the log request is built, non-positive
+	 * value means the feature is disabled
+	 */
+	public long getAttachmentSpillThreshold() {
+		return attachmentSpillThreshold;
+	}
+
+	public void setAttachmentSpillThreshold(long attachmentSpillThreshold) {
+		this.attachmentSpillThreshold = attachmentSpillThreshold;
+	}
+
+	/**
+	 * @return true if attachments with the same content should be uploaded only once per launch
+	 */
+	public boolean isAttachmentDeduplication() {
+		return attachmentDeduplication;
+	}
+
+	public void setAttachmentDeduplication(boolean attachmentDeduplication) {
+		this.attachmentDeduplication = attachmentDeduplication;
+	}
+
+	/**
+	 * @return maximum number of attachment fingerprints remembered for deduplication
+	 */
+	public int getAttachmentDeduplicationMaxEntries() {
+		return attachmentDeduplicationMaxEntries;
+	}
+
+	public void setAttachmentDeduplicationMaxEntries(int attachmentDeduplicationMaxEntries) {
+		this.attachmentDeduplicationMaxEntries = attachmentDeduplicationMaxEntries;
+	}
+
+	/**
+	 * @return maximum estimated memory footprint of the deduplication cache in bytes
+	 */
+	public long getAttachmentDeduplicationMaxMemory() {
+		return attachmentDeduplicationMaxMemory;
+	}
+
+	public void setAttachmentDeduplicationMaxMemory(long attachmentDeduplicationMaxMemory) {
+		this.attachmentDeduplicationMaxMemory = attachmentDeduplicationMaxMemory;
+	}
+
+	/**
+	 * @return attachment size in bytes, above which text-like attachments are gzip-compressed before upload, non-positive value
+	 * means the feature is disabled
+	 */
+	public long getAttachmentCompressionThreshold() {
+		return attachmentCompressionThreshold;
+	}
+
+	public void setAttachmentCompressionThreshold(long attachmentCompressionThreshold) {
+		this.attachmentCompressionThreshold = attachmentCompressionThreshold;
+	}
+
+	/**
+	 * @return media types of attachments to compress, wildcard subtypes like <code>text/*</code> are supported
+	 */
+	@Nonnull
+	public List<String> getAttachmentCompressionTypes() {
+		return attachmentCompressionTypes;
+	}
+
+	public void setAttachmentCompressionTypes(@Nonnull List<String> attachmentCompressionTypes) {
+		this.attachmentCompressionTypes = attachmentCompressionTypes;
+	}
+
+	/**
+	 * @return minimum level of logs sent by the agent, logs with lower levels are dropped before their content is built
+	 */
+	@Nonnull
+	public LogLevel getLogLevel() {
+		return logLevel;
+	}
+
+	public void setLogLevel(@Nonnull LogLevel logLevel) {
+		this.logLevel = logLevel;
+	}
+
+	/**
+	 * @return true if consecutive text logs of a Scenario should be merged into a single log entry
+	 */
+	public boolean isLogAggregation() {
+		return logAggregation;
+	}
+
+	public void setLogAggregation(boolean logAggregation) {
+		this.logAggregation = logAggregation;
+	}
+
+	/**
+	 * @return maximum time in milliseconds between the first and the last text logs merged into a single log entry
+	 */
+	public long getLogAggregationTimeWindow() {
+		return logAggregationTimeWindow;
+	}
+
+	public void setLogAggregationTimeWindow(long logAggregationTimeWindow) {
+		this.logAggregationTimeWindow = logAggregationTimeWindow;
+	}
+
+	/**
+	 * @return maximum length in characters of a merged text log entry
+	 */
+	public int getLogAggregationSizeWindow() {
+		return logAggregationSizeWindow;
+	}
+
+	public void setLogAggregationSizeWindow(int logAggregationSizeWindow) {
+		this.logAggregationSizeWindow = logAggregationSizeWindow;
+	}
+
+	/**
+	 * @return true if stack traces of errors with the same fingerprint should be reported only once per launch
+	 */
+	public boolean isErrorDeduplication() {
+		return errorDeduplication;
+	}
+
+	public void setErrorDeduplication(boolean errorDeduplication) {
+		this.errorDeduplication = errorDeduplication;
+	}
+
+	/**
+	 * @return number of top stack frames used to calculate an error fingerprint
+	 */
+	public int getErrorDeduplicationFrames() {
+		return errorDeduplicationFrames;
+	}
+
+	public void setErrorDeduplicationFrames(int errorDeduplicationFrames) {
+		this.errorDeduplicationFrames = errorDeduplicationFrames;
+	}
+
+	/**
+	 * @return maximum number of error fingerprints remembered for deduplication
+	 */
+	public int getErrorDeduplicationMaxEntries() {
+		return errorDeduplicationMaxEntries;
+	}
+
+	public void setErrorDeduplicationMaxEntries(int errorDeduplicationMaxEntries) {
+		this.errorDeduplicationMaxEntries = errorDeduplicationMaxEntries;
+	}
+
+	/**
+	 * @return maximum number of logs and attachments of a single Scenario, non-positive value means no limit
+	 */
+	public long getScenarioLogQuotaCount() {
+		return scenarioLogQuotaCount;
+	}
+
+	public void setScenarioLogQuotaCount(long scenarioLogQuotaCount) {
+		this.scenarioLogQuotaCount = scenarioLogQuotaCount;
+	}
+
+	/**
+	 * @return maximum total size of logs and attachments of a single Scenario in bytes, non-positive value means no limit
+	 */
+	public long getScenarioLogQuotaBytes() {
+		return scenarioLogQuotaBytes;
+	}
+
+	public void setScenarioLogQuotaBytes(long scenarioLogQuotaBytes) {
+		this.scenarioLogQuotaBytes = scenarioLogQuotaBytes;
+	}
+
+	/**
+	 * @return maximum number of Scenario logs and attachments in the launch, non-positive value means no limit
+	 */
+	public long getLaunchLogQuotaCount() {
+		return launchLogQuotaCount;
+	}
+
+	public void setLaunchLogQuotaCount(long launchLogQuotaCount) {
+		this.launchLogQuotaCount = launchLogQuotaCount;
+	}
+
+	/**
+	 * @return maximum total size of Scenario logs and attachments in the launch in bytes, non-positive value means no limit
+	 */
+	public long getLaunchLogQuotaBytes() {
+		return launchLogQuotaBytes;
+	}
+
+	public void setLaunchLogQuotaBytes(long launchLogQuotaBytes) {
+		this.launchLogQuotaBytes = launchLogQuotaBytes;
+	}
+
+	/**
+	 * @return maximum length in characters of a step DocString or DataTable in the step description and parameters, longer
+	 * arguments are truncated and sent once as an attachment, non-positive value means no limit
+	 */
+	public int getStepArgumentMaxLength() {
+		return stepArgumentMaxLength;
+	}
+
+	public void setStepArgumentMaxLength(int stepArgumentMaxLength) {
+		this.stepArgumentMaxLength = stepArgumentMaxLength;
+	}
+
+	/**
+	 * @return true if the agent should measure its event handlers, expose the statistics via JMX and log a summary at the end
+	 * of the launch
+	 */
+	public boolean isMetricsEnabled() {
+		return metrics;
+	}
+
+	public void setMetricsEnabled(boolean metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @return maximum number of stack frames per throwable rendered into a failed item description, non-positive value means
+	 * no limit
+	 */
+	public int getErrorMaxFrames() {
+		return errorMaxFrames;
+	}
+
+	public void setErrorMaxFrames(int errorMaxFrames) {
+		this.errorMaxFrames = errorMaxFrames;
+	}
+
+	/**
+	 * @return maximum depth of causes and suppressed exceptions rendered into a failed item description, negative value means
+	 * no limit
+	 */
+	public int getErrorMaxCauseDepth() {
+		return errorMaxCauseDepth;
+	}
+
+	public void setErrorMaxCauseDepth(int errorMaxCauseDepth) {
+		this.errorMaxCauseDepth = errorMaxCauseDepth;
+	}
+
+	/**
+	 * @return path of a JSON file, where a reporting performance summary is written at the end of the launch, null means no
+	 * summary
+	 */
+	@Nullable
+	public String getSummaryFile() {
+		return summaryFile;
+	}
+
+	public void setSummaryFile(@Nullable String summaryFile) {
+		this.summaryFile = summaryFile;
+	}
+
+	/**
+	 * @return path of a directory shared by all agent instances which should report into the same launch, null means every
+	 * instance uses client join settings as is
+	 */
+	@Nullable
+	public String getLaunchSharedDir() {
+		return launchSharedDir;
+	}
+
+	public void setLaunchSharedDir(@Nullable String launchSharedDir) {
+		this.launchSharedDir = launchSharedDir;
+	}
+}
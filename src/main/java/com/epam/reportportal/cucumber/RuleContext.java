@@ -21,14 +21,18 @@ import io.reactivex.Maybe;
 import jakarta.annotation.Nonnull;
 
 import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class RuleContext {
 
 	private final int line;
 	private final URI uri;
 	private final Node.Rule rule;
+	private final AtomicInteger unfinishedScenarios = new AtomicInteger();
+	private final AtomicBoolean finished = new AtomicBoolean();
 
-	private Maybe<String> id = Maybe.empty();
+	private volatile Maybe<String> id = Maybe.empty();
 
 	public RuleContext(@Nonnull URI ruleFilePath, @Nonnull Node.Rule ruleNode) {
 		uri = ruleFilePath;
@@ -58,4 +62,31 @@ public class RuleContext {
 	public URI getUri() {
 		return uri;
 	}
+
+	void addScenario() {
+		unfinishedScenarios.incrementAndGet();
+	}
+
+	void finishScenario() {
+		unfinishedScenarios.decrementAndGet();
+	}
+
+	/**
+	 * Checks whether all scenarios of this rule have finished execution. Scenarios of different rules of a feature may run in
+	 * parallel, so a rule is finished when its own scenarios are finished, not when a scenario of another rule starts.
+	 *
+	 * @return true if every scenario of the rule is marked as finished, false otherwise
+	 */
+	public boolean isComplete() {
+		return unfinishedScenarios.get() <= 0;
+	}
+
+	/**
+	 * Marks the rule as finished.
+	 *
+	 * @return true if the rule was not marked as finished before, so its item should be finished by the caller
+	 */
+	public boolean finish() {
+		return finished.compareAndSet(false, true);
+	}
 }
@@ -17,12 +17,17 @@
 package com.epam.reportportal.cucumber;
 
 import com.epam.reportportal.cucumber.util.HookSuite;
+import com.epam.reportportal.cucumber.util.LogBuffer;
+import com.epam.reportportal.cucumber.util.LogQuota;
+import com.epam.reportportal.cucumber.util.StepRecord;
 import io.cucumber.plugin.event.Node;
 import io.cucumber.plugin.event.TestCase;
 import io.reactivex.Maybe;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
@@ -87,6 +92,21 @@ public class ScenarioContext {
 	 */
 	private HookSuite hookSuite;
 
+	/**
+	 * Results of Steps and Hooks which were folded into the scenario instead of being reported as separate items.
+	 */
+	private final List<StepRecord> stepRecords = new ArrayList<>();
+
+	/**
+	 * Buffer of text logs which are merged into a single log entry.
+	 */
+	private LogBuffer logBuffer;
+
+	/**
+	 * Quota of logs and attachments of the scenario.
+	 */
+	private LogQuota logQuota;
+
 	private volatile boolean finished = false;
 
 	/**
@@ -250,6 +270,65 @@ public class ScenarioContext {
 		return ofNullable(previousStep);
 	}
 
+	/**
+	 * Adds a result of a Step or a Hook which is folded into the scenario.
+	 *
+	 * @param stepRecord the step result
+	 */
+	public void addStepRecord(@Nonnull StepRecord stepRecord) {
+		stepRecords.add(stepRecord);
+	}
+
+	/**
+	 * Returns results of Steps and Hooks folded into the scenario and clears them.
+	 *
+	 * @return the list of step results in execution order
+	 */
+	@Nonnull
+	public List<StepRecord> pollStepRecords() {
+		List<StepRecord> result = new ArrayList<>(stepRecords);
+		stepRecords.clear();
+		return result;
+	}
+
+	/**
+	 * Returns the buffer of merged text logs.
+	 *
+	 * @return the log buffer, or empty if log aggregation was not used in the scenario
+	 */
+	@Nonnull
+	public Optional<LogBuffer> getLogBuffer() {
+		return ofNullable(logBuffer);
+	}
+
+	/**
+	 * Sets the buffer of merged text logs.
+	 *
+	 * @param logBuffer the log buffer
+	 */
+	public void setLogBuffer(@Nullable LogBuffer logBuffer) {
+		this.logBuffer = logBuffer;
+	}
+
+	/**
+	 * Returns the quota of logs and attachments.
+	 *
+	 * @return the log quota, or empty if no logs were accounted in the scenario
+	 */
+	@Nonnull
+	public Optional<LogQuota> getLogQuota() {
+		return ofNullable(logQuota);
+	}
+
+	/**
+	 * Sets the quota of logs and attachments.
+	 *
+	 * @param logQuota the log quota
+	 */
+	public void setLogQuota(@Nullable LogQuota logQuota) {
+		this.logQuota = logQuota;
+	}
+
 	/**
 	 * Sets the finished flag to true.
 	 */
@@ -16,20 +16,35 @@
 
 package com.epam.reportportal.cucumber;
 
+import com.epam.reportportal.cucumber.metrics.HandlerMetrics;
+import com.epam.reportportal.cucumber.metrics.HandlerType;
+import com.epam.reportportal.cucumber.metrics.ItemEvent;
+import com.epam.reportportal.cucumber.metrics.ItemEventTimer;
+import com.epam.reportportal.cucumber.metrics.ItemKind;
+import com.epam.reportportal.cucumber.metrics.ReporterMetrics;
+import com.epam.reportportal.cucumber.metrics.RunSummary;
+import com.epam.reportportal.cucumber.util.AttachmentCompressor;
+import com.epam.reportportal.cucumber.util.AttachmentDeduplicator;
+import com.epam.reportportal.cucumber.util.AttachmentSpooler;
+import com.epam.reportportal.cucumber.util.ErrorFingerprinter;
 import com.epam.reportportal.cucumber.util.HookSuite;
+import com.epam.reportportal.cucumber.util.LogBuffer;
+import com.epam.reportportal.cucumber.util.LogQuota;
+import com.epam.reportportal.cucumber.util.StackTraceRenderer;
+import com.epam.reportportal.cucumber.util.StepRecord;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ItemType;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.listeners.LogLevel;
-import com.epam.reportportal.message.ReportPortalMessage;
 import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.launch.lock.LaunchIdLockMode;
 import com.epam.reportportal.service.tree.TestItemTree;
 import com.epam.reportportal.utils.MemoizingSupplier;
 import com.epam.reportportal.utils.ParameterUtils;
-import com.epam.reportportal.utils.files.ByteSource;
 import com.epam.reportportal.utils.formatting.MarkdownUtils;
 import com.epam.reportportal.utils.http.ContentType;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
 import com.epam.reportportal.utils.properties.SystemAttributesExtractor;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
 import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
@@ -37,6 +52,7 @@ import com.epam.ta.reportportal.ws.model.ParameterResource;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.cucumber.core.gherkin.Feature;
 import io.cucumber.plugin.ConcurrentEventListener;
 import io.cucumber.plugin.event.*;
@@ -55,9 +71,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongPredicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -75,6 +98,8 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 public class ScenarioReporter implements ConcurrentEventListener {
 	public static final String BACKGROUND_PREFIX = "BACKGROUND: ";
+	public static final String SHARED_LAUNCH_LOCK_FILE = "reportportal.lock";
+	public static final String SHARED_LAUNCH_SYNC_FILE = "reportportal.sync";
 	protected static final URI WORKING_DIRECTORY = new File(System.getProperty("user.dir")).toURI();
 	protected static final String DOCSTRING_DECORATOR = "\n\"\"\"\n";
 	private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioReporter.class);
@@ -87,6 +112,12 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	private static final String UNKNOWN_PARAM = "arg";
 	private static final String TEST_CASE_ID_PREFIX = "@tc_id:";
 	private static final String ERROR_FORMAT = "Error:\n%s";
+	private static final String IDENTIFIED_ERROR_FORMAT = "Error #%s:\n%s";
+	private static final String COMPRESSED_ATTACHMENT_FORMAT = "%s [compressed, original type: %s, original size: %d bytes]";
+	private static final String TRUNCATED_ARGUMENT_FORMAT = "\n\n[Truncated: %d of %d characters are shown, see the '%s' attachment of the step]";
+	private static final String STEP_ARGUMENT_ATTACHMENT_NAME = "Step argument";
+	private static final String SCENARIO_LOG_QUOTA_FORMAT = "Log quota of the scenario was exceeded: %d logs and attachments (%d bytes) were dropped";
+	private static final String LAUNCH_LOG_QUOTA_FORMAT = "Log quota of the launch was exceeded: %d logs and attachments (%d bytes) were dropped";
 
 	private static final Method IS_RETRY_METHOD;
 
@@ -106,9 +137,56 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		IS_RETRY_METHOD = isRetry;
 	}
 
-	private final Map<URI, FeatureContext> featureContextMap = new ConcurrentHashMap<>();
+	/**
+	 * Feature contexts by feature URI. A context is built on the first use, so features which are filtered out and never run
+	 * cost only a reference to the parsed feature.
+	 */
+	private final Map<URI, MemoizingSupplier<FeatureContext>> featureContextMap = new ConcurrentHashMap<>();
 	private final TestItemTree itemTree = new TestItemTree();
+	private final ReporterParameters reporterParameters = buildReporterParameters();
+	/* set by configureSharedLaunch() during buildReportPortal() call, so it must not have an initializer */
+	private boolean sharedLaunchConfigured;
 	private final ReportPortal rp = buildReportPortal();
+	private final AttachmentSpooler attachmentSpooler = new AttachmentSpooler(reporterParameters.getAttachmentSpillThreshold());
+	private final AttachmentDeduplicator attachmentDeduplicator = new AttachmentDeduplicator(
+			reporterParameters.getAttachmentDeduplicationMaxEntries(),
+			reporterParameters.getAttachmentDeduplicationMaxMemory()
+	);
+	private final AttachmentCompressor attachmentCompressor = new AttachmentCompressor(
+			reporterParameters.getAttachmentCompressionThreshold(),
+			reporterParameters.getAttachmentCompressionTypes()
+	);
+	private final ErrorFingerprinter errorFingerprinter = new ErrorFingerprinter(
+			reporterParameters.getErrorDeduplicationFrames(),
+			reporterParameters.getErrorDeduplicationMaxEntries()
+	);
+	private final HandlerMetrics handlerMetrics = new HandlerMetrics();
+	private final RunSummary runSummary = new RunSummary();
+	private final ReporterMetrics reporterMetrics = buildReporterMetrics();
+	private final LogQuota launchLogQuota = new LogQuota(
+			reporterParameters.getLaunchLogQuotaCount(),
+			reporterParameters.getLaunchLogQuotaBytes()
+	);
+	private final StackTraceRenderer stackTraceRenderer = new StackTraceRenderer(
+			reporterParameters.getErrorMaxFrames(),
+			reporterParameters.getErrorMaxCauseDepth()
+	);
+
+	/**
+	 * Rendered stack traces of errors, which are not finished yet. A failed Step and its Scenario usually share the same error,
+	 * so it is rendered only once.
+	 */
+	private final Map<Throwable, String> renderedErrors = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * IDs of the current Step and its started nested steps for each test thread, the innermost one is the first.
+	 */
+	private final ThreadLocal<Deque<Maybe<String>>> nestedStepParents = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * {@link System#nanoTime()} of the launch start, used to calculate the run time in the reporting summary.
+	 */
+	private volatile long launchStartTime;
 
 	// There is no event for recognizing end of feature in Cucumber.
 	// This map is used to record the last scenario time and its feature uri.
@@ -139,6 +217,12 @@ public class ScenarioReporter implements ConcurrentEventListener {
 
 	public ScenarioReporter() {
 		INSTANCES.set(this);
+		if (isSharedLaunchRequested() && !sharedLaunchConfigured) {
+			LOGGER.warn(
+					"Shared launch directory is set, but buildReportPortal() doesn't call configureSharedLaunch(), the launch will "
+							+ "not be shared"
+			);
+		}
 	}
 
 	/**
@@ -198,6 +282,14 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		return rp;
 	}
 
+	/**
+	 * @return Cucumber agent specific parameters
+	 */
+	@Nonnull
+	public ReporterParameters getReporterParameters() {
+		return reporterParameters;
+	}
+
 	/**
 	 * @return a ReportPortal {@link Launch} class instance which is used in test item reporting
 	 */
@@ -219,7 +311,112 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * @return ReportPortal
 	 */
 	protected ReportPortal buildReportPortal() {
-		return ReportPortal.builder().build();
+		ListenerParameters parameters = new ListenerParameters(PropertiesLoader.load());
+		configureSharedLaunch(parameters);
+		return ReportPortal.builder().withParameters(parameters).build();
+	}
+
+	private boolean isSharedLaunchRequested() {
+		String sharedDir = reporterParameters.getLaunchSharedDir();
+		return sharedDir != null && !sharedDir.trim().isEmpty();
+	}
+
+	/**
+	 * Points client join lock and sync files to {@link ReporterParameters#getLaunchSharedDir()} directory, if it is set. The
+	 * first agent instance which locks the file becomes primary: it starts the launch and writes its UUID into the lock file,
+	 * other instances report into the same launch, and the launch is finished when the last of them finishes.
+	 * <p>
+	 * Only {@link LaunchIdLockMode#FILE} client join mode uses the files, in other modes the parameters are left as is. If
+	 * {@link #buildReportPortal()} is overridden, it should call this method, otherwise the shared directory is ignored.
+	 *
+	 * @param parameters client parameters to update
+	 */
+	protected void configureSharedLaunch(@Nonnull ListenerParameters parameters) {
+		sharedLaunchConfigured = true;
+		if (!isSharedLaunchRequested()) {
+			return;
+		}
+		Path directory = Paths.get(reporterParameters.getLaunchSharedDir().trim());
+		LaunchIdLockMode joinMode = parameters.getClientJoinMode();
+		if (joinMode != null && joinMode != LaunchIdLockMode.FILE) {
+			LOGGER.warn(
+					"Shared launch directory: {} works only in {} client join mode, but the mode is {}, the launch will not be shared",
+					directory,
+					LaunchIdLockMode.FILE,
+					joinMode
+			);
+			return;
+		}
+		try {
+			Files.createDirectories(directory);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to create shared launch directory: {}, the launch will not be shared", directory, e);
+			return;
+		}
+		parameters.setClientJoin(true);
+		parameters.setLockFileName(directory.resolve(SHARED_LAUNCH_LOCK_FILE).toString());
+		parameters.setSyncFileName(directory.resolve(SHARED_LAUNCH_SYNC_FILE).toString());
+	}
+
+	/**
+	 * Extension point to customize Cucumber agent specific parameters
+	 *
+	 * @return agent parameters
+	 */
+	@Nonnull
+	protected ReporterParameters buildReporterParameters() {
+		return new ReporterParameters(PropertiesLoader.load());
+	}
+
+	/**
+	 * Extension point to customize agent metrics. By default, loads {@link ReporterMetrics} implementations with
+	 * {@link java.util.ServiceLoader}.
+	 *
+	 * @return agent metrics
+	 */
+	@Nonnull
+	protected ReporterMetrics buildReporterMetrics() {
+		return ReporterMetrics.load(ScenarioReporter.class.getClassLoader());
+	}
+
+	/**
+	 * @return agent metrics, which are notified on every reporting lifecycle point
+	 */
+	@Nonnull
+	public ReporterMetrics getReporterMetrics() {
+		return reporterMetrics;
+	}
+
+	/**
+	 * Returns latency statistics of the agent event handlers. The statistics are collected only if
+	 * {@link ReporterParameters#isMetricsEnabled()} is on.
+	 *
+	 * @return handler metrics
+	 */
+	@Nonnull
+	public HandlerMetrics getHandlerMetrics() {
+		return handlerMetrics;
+	}
+
+	/**
+	 * Returns reporting performance counters of the launch. Time spent in the event handlers is measured only if
+	 * {@link ReporterParameters#isMetricsEnabled()} is on or {@link ReporterParameters#getSummaryFile()} is set.
+	 *
+	 * @return reporting summary
+	 */
+	@Nonnull
+	public RunSummary getRunSummary() {
+		return runSummary;
+	}
+
+	@Nonnull
+	private <T> EventHandler<T> timed(@Nonnull HandlerType type, @Nonnull EventHandler<T> handler) {
+		boolean measured = reporterParameters.isMetricsEnabled() || reporterParameters.getSummaryFile() != null;
+		return measured ? handlerMetrics.timed(type, handler) : handler;
+	}
+
+	private boolean isScenarioReportingMode() {
+		return reporterParameters.getReportingMode() == ReporterParameters.ReportingMode.SCENARIO;
 	}
 
 	/**
@@ -247,8 +444,18 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		return tags.stream().map(Object::toString).map(Utils::toAttribute).collect(Collectors.toSet());
 	}
 
+	@Nullable
+	private static FeatureContext materializeFeatureContext(@Nonnull Supplier<FeatureContext> featureContext) {
+		try {
+			return featureContext.get();
+		} catch (RuntimeException e) {
+			LOGGER.error("Unable to build Feature context", e);
+			return null;
+		}
+	}
+
 	private void execute(@Nonnull URI uri, @Nonnull FeatureContextAware context) {
-		Optional<FeatureContext> feature = ofNullable(featureContextMap.get(uri));
+		Optional<FeatureContext> feature = ofNullable(featureContextMap.get(uri)).map(ScenarioReporter::materializeFeatureContext);
 		if (feature.isPresent()) {
 			context.executeWithContext(feature.get());
 		} else {
@@ -311,16 +518,21 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		URI uri = testCase.getUri();
 		int lineNumber = testCase.getLocation().getLine();
 
-		// Read the feature file to extract the parameters for the current example
-		List<String> fileLines;
-		try {
-			fileLines = Arrays.asList(new String(
-					com.epam.reportportal.utils.files.Utils.getFile(uri).read(),
-					Charset.defaultCharset()
-			).split("\r?\n"));
-		} catch (IOException e) {
-			LOGGER.error("Failed to read feature file: {}", uri, e);
-			return null;
+		// Use the feature source lines to extract the parameters for the current example, fall back to the feature file if
+		// the feature wasn't parsed in this run
+		List<String> fileLines = ofNullable(featureContextMap.get(uri)).map(ScenarioReporter::materializeFeatureContext)
+				.map(FeatureContext::getLines)
+				.orElse(null);
+		if (fileLines == null) {
+			try {
+				fileLines = Arrays.asList(new String(
+						com.epam.reportportal.utils.files.Utils.getFile(uri).read(),
+						Charset.defaultCharset()
+				).split("\r?\n"));
+			} catch (IOException e) {
+				LOGGER.error("Failed to read feature file: {}", uri, e);
+				return null;
+			}
 		}
 
 		// Check if this is a scenario from a scenario outline by checking the location line
@@ -424,7 +636,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startScenario(@Nonnull Maybe<String> featureId, @Nonnull StartTestItemRQ startScenarioRq) {
-		return getLaunch().startTestItem(featureId, startScenarioRq);
+		return itemStarted(ItemKind.SCENARIO, getLaunch().startTestItem(featureId, startScenarioRq));
 	}
 
 	private void execute(@Nonnull TestCase testCase, @Nonnull ScenarioContextAware context) {
@@ -495,7 +707,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startHook(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
-		return getLaunch().startTestItem(parentId, rq);
+		return itemStarted(ItemKind.HOOK, getLaunch().startTestItem(parentId, rq));
 	}
 
 	protected void beforeHooksSuite(@Nonnull TestCase testCase, @Nonnull HookTestStep testStep) {
@@ -529,6 +741,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 					hookSuiteOptional.map(hookSuite -> {
 						// if we have a new hook type, we need to finish the previous suite and create new one
 						finishTestItem(hookSuite.getId(), ofNullable(hookSuite.getStatus()).orElse(ItemStatus.PASSED));
+						itemFinished(ItemKind.HOOK);
 						StartTestItemRQ hookSuiteRq = buildStartHookSuiteRequest(testStep);
 						Maybe<String> hookSuiteId = startHook(parentId, hookSuiteRq);
 						s.setHookSuite(new HookSuite(hookSuiteId, hookType, null));
@@ -550,6 +763,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 					Optional<HookSuite> hookSuite = s.getHookSuite();
 					hookSuite.ifPresent(suite -> {
 						finishTestItem(suite.getId(), ofNullable(suite.getStatus()).orElse(ItemStatus.PASSED));
+						itemFinished(ItemKind.HOOK);
 						s.setHookSuite(null);
 					});
 				}
@@ -571,9 +785,23 @@ public class ScenarioReporter implements ConcurrentEventListener {
 					if (mapItemStatus(status) == ItemStatus.FAILED) {
 						Optional.ofNullable(error).ifPresent(e -> errorMap.put(s.getId(), e));
 					}
+					if (isScenarioReportingMode()) {
+						List<StepRecord> stepRecords = s.pollStepRecords();
+						if (!stepRecords.isEmpty()) {
+							sendLog(() -> buildStepSummary(stepRecords), LogLevel.INFO);
+						}
+					}
+					s.getLogQuota()
+							.filter(q -> q.getDroppedCount() > 0)
+							.ifPresent(q -> sendLog(
+									() -> format(SCENARIO_LOG_QUOTA_FORMAT, q.getDroppedCount(), q.getDroppedBytes()),
+									LogLevel.WARN
+							));
 					Instant endTime = finishTestItem(s.getId(), mapItemStatus(status), null);
+					itemFinished(ItemKind.SCENARIO);
 					featureEndTime.put(featureUri, endTime);
-					s.finish();
+					f.finishScenario(s);
+					s.getRule().filter(RuleContext::isComplete).ifPresent(r -> finishRule(r, null));
 					removeFromTree(f.getFeature(), testCase);
 				}
 		);
@@ -589,9 +817,26 @@ public class ScenarioReporter implements ConcurrentEventListener {
 			return;
 		}
 		Instant featureCompletionDateTime = featureEndTime.get(f.getUri());
-		f.getCurrentRule().ifPresent(r -> finishTestItem(r.getId(), null, featureCompletionDateTime));
+		f.getRules().forEach(r -> finishRule(r, featureCompletionDateTime));
+		ItemEventTimer featureEvent = ItemEventTimer.start();
 		finishTestItem(f.getId(), null, featureCompletionDateTime);
+		itemFinished(ItemKind.FEATURE);
 		removeFromTree(f.getFeature());
+		featureEvent.record(ItemKind.FEATURE, ItemEvent.Action.FINISH, f.getUri(), f.getFeature().getLocation().getLine());
+	}
+
+	/**
+	 * Finishes Features and Rules which are still open at the end of the run. They are finished when all their Scenarios are,
+	 * so a Feature or a Rule with Scenarios filtered out of the run is finished only here.
+	 */
+	private void finishStartedFeatures() {
+		featureContextMap.values()
+				.stream()
+				.filter(MemoizingSupplier::isInitialized)
+				.map(ScenarioReporter::materializeFeatureContext)
+				.filter(Objects::nonNull)
+				.filter(FeatureContext::finish)
+				.forEach(this::finishFeature);
 	}
 
 	/**
@@ -602,7 +847,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startFeature(@Nonnull StartTestItemRQ startFeatureRq) {
-		return getLaunch().startTestItem(startFeatureRq);
+		return itemStarted(ItemKind.FEATURE, getLaunch().startTestItem(startFeatureRq));
 	}
 
 	private void addToTree(Feature feature, Maybe<String> featureId) {
@@ -613,12 +858,17 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		URI uri = testCase.getUri();
 		execute(
 				uri, f -> {
-					//noinspection ReactiveStreamsUnusedPublisher
-					if (f.getId().equals(Maybe.empty())) {
-						StartTestItemRQ featureRq = buildStartFeatureRequest(f.getFeature(), uri);
-						f.setId(startFeature(featureRq));
-						if (getLaunch().getParameters().isCallbackReportingEnabled()) {
-							addToTree(f.getFeature(), f.getId());
+					// the first Scenarios of a feature may start in parallel
+					synchronized (f) {
+						//noinspection ReactiveStreamsUnusedPublisher
+						if (f.getId().equals(Maybe.empty())) {
+							ItemEventTimer featureEvent = ItemEventTimer.start();
+							StartTestItemRQ featureRq = buildStartFeatureRequest(f.getFeature(), uri);
+							f.setId(startFeature(featureRq));
+							if (getLaunch().getParameters().isCallbackReportingEnabled()) {
+								addToTree(f.getFeature(), f.getId());
+							}
+							featureEvent.record(ItemKind.FEATURE, ItemEvent.Action.START, uri, f.getFeature().getLocation().getLine());
 						}
 					}
 				}
@@ -634,7 +884,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	protected void afterFeature(@Nonnull TestCase testCase) {
 		execute(
 				testCase, (f, s) -> {
-					if (f.isComplete()) {
+					if (f.isComplete() && f.finish()) {
 						finishFeature(f);
 					}
 				}
@@ -682,9 +932,9 @@ public class ScenarioReporter implements ConcurrentEventListener {
 			String value;
 			if (a instanceof DocStringArgument) {
 				value = ((DocStringArgument) a).getContent();
-				params.add(Pair.of(DOC_STRING_PARAM, value));
+				params.add(Pair.of(DOC_STRING_PARAM, truncateStepArgument(value)));
 			} else if (a instanceof DataTableArgument) {
-				params.add(Pair.of(DATA_TABLE_PARAM, formatDataTable(((DataTableArgument) a).cells())));
+				params.add(Pair.of(DATA_TABLE_PARAM, truncateStepArgument(formatDataTable(((DataTableArgument) a).cells()))));
 			} else {
 				params.add(Pair.of(UNKNOWN_PARAM, a.toString()));
 			}
@@ -705,7 +955,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 			@Nullable String keyword) {
 		StartTestItemRQ rq = new StartTestItemRQ();
 		rq.setName(buildName(stepPrefix, keyword, getStepName(testStep)));
-		rq.setDescription(buildMultilineArgument(testStep));
+		rq.setDescription(truncateStepArgument(buildMultilineArgument(testStep)));
 		rq.setStartTime(Instant.now());
 		rq.setType("STEP");
 		rq.setParameters(getParameters(testStep));
@@ -724,7 +974,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	@Nonnull
 	protected Maybe<String> startVirtualStep(@Nonnull Maybe<String> scenarioId, @Nonnull Maybe<String> virtualStepId,
 			@Nonnull StartTestItemRQ startStepRq) {
-		return getLaunch().startVirtualTestItem(scenarioId, virtualStepId, startStepRq);
+		return itemStarted(ItemKind.STEP, getLaunch().startVirtualTestItem(scenarioId, virtualStepId, startStepRq));
 	}
 
 	/**
@@ -736,7 +986,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startStep(@Nonnull Maybe<String> scenarioId, @Nonnull StartTestItemRQ startStepRq) {
-		return getLaunch().startTestItem(scenarioId, startStepRq);
+		return itemStarted(ItemKind.STEP, getLaunch().startTestItem(scenarioId, startStepRq));
 	}
 
 	private void addToTree(@Nonnull TestCase scenario, @Nullable String text, @Nullable Maybe<String> stepId) {
@@ -783,18 +1033,58 @@ public class ScenarioReporter implements ConcurrentEventListener {
 						return sId;
 					});
 
+					Deque<Maybe<String>> nestedParents = nestedStepParents.get();
+					nestedParents.clear();
+					nestedParents.push(stepId);
+
 					String stepText = step.getStep().getText();
 					if (getLaunch().getParameters().isCallbackReportingEnabled()) {
 						addToTree(testCase, stepText, stepId);
 					}
 				}
 		);
-		String description = buildMultilineArgument(step).trim();
-		if (!description.isEmpty()) {
+		String argument = buildMultilineArgument(step);
+		String description = argument.trim();
+		if (description.isEmpty()) {
+			return;
+		}
+		// the step description is truncated by the length of the argument as is, so the same value is checked here
+		if (isStepArgumentTruncated(argument)) {
+			embedding(STEP_ARGUMENT_ATTACHMENT_NAME, ContentType.TEXT_PLAIN, () -> description.getBytes(StandardCharsets.UTF_8));
+		} else {
 			sendLog(description);
 		}
 	}
 
+	private boolean isStepArgumentTruncated(@Nonnull String argument) {
+		int maxLength = reporterParameters.getStepArgumentMaxLength();
+		return maxLength > 0 && argument.length() > maxLength;
+	}
+
+	/**
+	 * Truncate a step argument (DocString or DataTable) representation to
+	 * {@link ReporterParameters#getStepArgumentMaxLength()} characters and add a truncation marker.
+	 *
+	 * @param argument step argument representation
+	 * @return the argument as is if it fits into the limit, truncated argument otherwise
+	 */
+	@Nonnull
+	private String truncateStepArgument(@Nonnull String argument) {
+		if (!isStepArgumentTruncated(argument)) {
+			return argument;
+		}
+		int length = reporterParameters.getStepArgumentMaxLength();
+		if (Character.isHighSurrogate(argument.charAt(length - 1))) {
+			length--;
+		}
+		return argument.substring(0, length) + format(
+				TRUNCATED_ARGUMENT_FORMAT,
+				length,
+				argument.length(),
+				STEP_ARGUMENT_ATTACHMENT_NAME
+		);
+	}
+
 	/**
 	 * Finish Cucumber step
 	 *
@@ -803,6 +1093,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * @param result   Step result
 	 */
 	protected void afterStep(@Nonnull TestCase testCase, @Nonnull PickleStepTestStep testStep, @Nonnull Result result) {
+		finishNestedSteps(mapItemStatus(result.getStatus()));
 		execute(
 				testCase, (f, s) -> {
 					reportResult(result);
@@ -814,6 +1105,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 								Optional.ofNullable(result.getError()).ifPresent(error -> errorMap.put(step.getId(), error));
 							}
 							finishTestItem(step.getId(), mapItemStatus(result.getStatus()), null);
+							itemFinished(ItemKind.STEP);
 							// Store current step as previous step before clearing the current step
 							s.setPreviousStep(step);
 						} else {
@@ -857,6 +1149,71 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		}
 	}
 
+	/**
+	 * Extension point to customize nested step creation request
+	 *
+	 * @param name nested step name
+	 * @return Request to ReportPortal
+	 */
+	@Nonnull
+	protected StartTestItemRQ buildStartNestedStepRequest(@Nonnull String name) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setType(ItemType.STEP.name());
+		rq.setStartTime(Instant.now());
+		rq.setHasStats(false);
+		return rq;
+	}
+
+	/**
+	 * Starts a nested step inside the current Step of the calling thread, or inside the current nested step. Unlike
+	 * {@link com.epam.reportportal.annotations.Step} annotation, does not need AspectJ weaving. Use {@link NestedStep} to
+	 * report a block of code as a nested step.
+	 *
+	 * @param name nested step name
+	 * @return ID of the nested step, an empty one if there is no running Step on the calling thread, e.g. in
+	 * {@link ReporterParameters.ReportingMode#SCENARIO} reporting mode
+	 */
+	@Nonnull
+	public Maybe<String> startNestedStep(@Nonnull String name) {
+		Deque<Maybe<String>> parents = nestedStepParents.get();
+		Maybe<String> parentId = parents.peek();
+		if (parentId == null) {
+			return Maybe.empty();
+		}
+		Maybe<String> stepId = itemStarted(ItemKind.STEP, getLaunch().startTestItem(parentId, buildStartNestedStepRequest(name)));
+		parents.push(stepId);
+		return stepId;
+	}
+
+	/**
+	 * Finishes a nested step started with {@link #startNestedStep(String)} on the same thread.
+	 *
+	 * @param stepId ID of the nested step
+	 * @param status the status of the nested step
+	 */
+	public void finishNestedStep(@Nonnull Maybe<String> stepId, @Nonnull ItemStatus status) {
+		Deque<Maybe<String>> parents = nestedStepParents.get();
+		if (parents.size() > 1 && parents.removeFirstOccurrence(stepId)) {
+			finishTestItem(stepId, status);
+			itemFinished(ItemKind.STEP);
+		}
+	}
+
+	/**
+	 * Finishes nested steps which were left open by the Step code and forgets the Step of the calling thread.
+	 *
+	 * @param status the status of the Step
+	 */
+	private void finishNestedSteps(@Nullable ItemStatus status) {
+		Deque<Maybe<String>> parents = nestedStepParents.get();
+		while (parents.size() > 1) {
+			finishTestItem(parents.pop(), status);
+			itemFinished(ItemKind.STEP);
+		}
+		nestedStepParents.remove();
+	}
+
 	protected StartTestItemRQ buildStartHookSuiteRequest(@Nonnull HookTestStep testStep) {
 		StartTestItemRQ rq = new StartTestItemRQ();
 		String name = getHookName(testStep.getHookType());
@@ -916,6 +1273,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 					reportResult(result);
 					ItemStatus hookStatus = mapItemStatus(result.getStatus());
 					finishTestItem(s.getHookId(), hookStatus);
+					itemFinished(ItemKind.HOOK);
 					s.setHookId(Maybe.empty());
 					Optional<HookSuite> hookSuite = s.getHookSuite();
 					if (hookSuite.isEmpty() || hookStatus == null) {
@@ -927,12 +1285,82 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	}
 
 	/**
-	 * Report test item result and error (if present)
+	 * Generate a name of a Step or a Hook for a Scenario summary.
+	 *
+	 * @param testStep Cucumber's TestStep object
+	 * @param scenario current scenario context
+	 * @return a step name
+	 */
+	@Nonnull
+	protected String getStepRecordName(@Nonnull TestStep testStep, @Nonnull ScenarioContext scenario) {
+		if (testStep instanceof HookTestStep) {
+			return buildName(getHookName(((HookTestStep) testStep).getHookType()), COLON_INFIX, testStep.getCodeLocation());
+		}
+		if (testStep instanceof PickleStepTestStep) {
+			PickleStepTestStep step = (PickleStepTestStep) testStep;
+			String stepPrefix = step.getStep().getLocation().getLine() < scenario.getLine() ? BACKGROUND_PREFIX : null;
+			return buildName(stepPrefix, step.getStep().getKeyword(), getStepName(step));
+		}
+		return ofNullable(testStep.getCodeLocation()).orElseGet(() -> testStep.getClass().getSimpleName());
+	}
+
+	/**
+	 * Fold a finished Step or Hook into its Scenario instead of reporting it as a separate item. Used in
+	 * {@link ReporterParameters.ReportingMode#SCENARIO} reporting mode.
+	 *
+	 * @param testCase Cucumber's TestCase object
+	 * @param testStep Cucumber's TestStep object
+	 * @param result   a cucumber result object
+	 */
+	protected void recordStep(@Nonnull TestCase testCase, @Nonnull TestStep testStep, @Nonnull Result result) {
+		execute(
+				testCase, (f, s) -> {
+					reportResult(result);
+					s.addStepRecord(new StepRecord(getStepRecordName(testStep, s), mapItemStatus(result.getStatus()), result.getDuration()));
+				}
+		);
+	}
+
+	/**
+	 * Build a Scenario summary log of folded Steps and Hooks as a Markdown table.
+	 *
+	 * @param stepRecords results of Steps and Hooks in execution order
+	 * @return a Markdown table with step name, status and duration
+	 */
+	@Nonnull
+	protected String buildStepSummary(@Nonnull List<StepRecord> stepRecords) {
+		List<List<String>> table = new ArrayList<>(stepRecords.size() + 1);
+		table.add(Arrays.asList("Step", "Status", "Duration"));
+		stepRecords.forEach(r -> table.add(Arrays.asList(
+				r.getName(),
+				ofNullable(r.getStatus()).map(Enum::name).orElse(StringUtils.EMPTY),
+				ofNullable(r.getDuration()).map(d -> d.toMillis() + " ms").orElse(StringUtils.EMPTY)
+		)));
+		return formatDataTable(table);
+	}
+
+	/**
+	 * Report test item result and error (if present). If {@link ReporterParameters#isErrorDeduplication()} is on, an error
+	 * which was already reported in the launch is replaced with a short reference log.
 	 *
 	 * @param result - Cucumber result object
 	 */
 	protected void reportResult(@Nonnull Result result) {
-		ofNullable(result.getError()).ifPresent(ReportPortal::sendStackTraceToRP);
+		ofNullable(result.getError()).filter(error -> isLogEnabled(LogLevel.ERROR)).ifPresent(error -> {
+			Optional<String> reference = getErrorReference(error);
+			if (reference.isPresent()) {
+				sendLog(reference::get, LogLevel.ERROR);
+			} else {
+				ReportPortal.sendStackTraceToRP(error);
+				// the stack trace is rendered by the client, so only the log itself is accounted
+				logSent(0);
+			}
+		});
+	}
+
+	@Nonnull
+	private Optional<String> getErrorReference(@Nonnull Throwable error) {
+		return reporterParameters.isErrorDeduplication() ? errorFingerprinter.deduplicate(error) : Optional.empty();
 	}
 
 	/**
@@ -941,12 +1369,100 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * @param name     attachment name
 	 * @param mimeType attachment type
 	 * @param data     data to attach
+	 * @see #embedding(String, String, Supplier)
 	 */
 	protected void embedding(@Nullable String name, @Nullable String mimeType, @Nonnull byte[] data) {
+		embedding(name, mimeType, () -> data);
+	}
+
+	/**
+	 * Send a log with data attached. The data is obtained from the supplier only if 'INFO' level logs are accepted by
+	 * {@link #isLogEnabled(LogLevel)}. Data bigger than {@link ReporterParameters#getAttachmentSpillThreshold()} is moved
+	 * to a temporary file and read back only when the log request is built, after the item is started. If
+	 * {@link ReporterParameters#isAttachmentDeduplication()} is on, data which was already attached in the launch is
+	 * replaced with a reference log.
+	 *
+	 * @param name         attachment name
+	 * @param mimeType     attachment type
+	 * @param dataSupplier supplier of data to attach
+	 */
+	protected void embedding(@Nullable String name, @Nullable String mimeType, @Nonnull Supplier<byte[]> dataSupplier) {
+		embedding(name, mimeType, dataSupplier, size -> true);
+	}
+
+	/**
+	 * Send a log with data attached if the size actually sent, which is the reference log size for a deduplicated
+	 * attachment, is accepted by the quota.
+	 */
+	private void embedding(@Nullable String name, @Nullable String mimeType, @Nonnull Supplier<byte[]> dataSupplier,
+			@Nonnull LongPredicate quota) {
+		if (!isLogEnabled(LogLevel.INFO)) {
+			return;
+		}
+		byte[] data = dataSupplier.get();
+		if (reporterParameters.isAttachmentDeduplication()) {
+			Optional<String> reference = attachmentDeduplicator.deduplicate(data, name);
+			if (reference.isPresent()) {
+				if (quota.test(RunSummary.utf8Length(reference.get()))) {
+					sendLog(reference::get, LogLevel.INFO);
+				}
+				return;
+			}
+		}
+		if (!quota.test(data.length)) {
+			if (reporterParameters.isAttachmentDeduplication()) {
+				attachmentDeduplicator.forget(data);
+			}
+			return;
+		}
+		attachmentSent(data.length);
+		AttachmentSpooler.Source source = attachmentSpooler.spool(data);
+		Instant logTime = Instant.now();
+		ReportPortal.emitLog(itemUuid -> buildEmbeddingLogRq(itemUuid, name, mimeType, source, logTime));
+	}
+
+	/**
+	 * Build a log request with data attached. Called on the upload path, so MIME type detection, data reading and compression
+	 * do not block the test thread. Compressed attachments keep the original name and type in the log message.
+	 */
+	@Nonnull
+	private SaveLogRQ buildEmbeddingLogRq(@Nonnull String itemUuid, @Nullable String name, @Nullable String mimeType,
+			@Nonnull AttachmentSpooler.Source source, @Nonnull Instant logTime) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid(itemUuid);
+		rq.setLevel(LogLevel.INFO.name());
+		rq.setLogTime(logTime);
+		byte[] data;
+		try {
+			data = source.read();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to read attachment data", e);
+			rq.setMessage(ofNullable(name).orElse(StringUtils.EMPTY));
+			return rq;
+		}
 		String type = ofNullable(mimeType).filter(ContentType::isValidType).orElseGet(() -> getDataType(data, name));
 		String attachmentName = ofNullable(name).filter(m -> !m.isEmpty())
 				.orElseGet(() -> ofNullable(type).map(t -> t.substring(0, t.indexOf("/"))).orElse(""));
-		ReportPortal.emitLog(new ReportPortalMessage(ByteSource.wrap(data), type, attachmentName), LogLevel.INFO.name(), Instant.now());
+		String fileName = UUID.randomUUID().toString();
+		byte[] content = data;
+		String contentType = ofNullable(type).orElse(ContentType.APPLICATION_OCTET_STREAM);
+		String message = attachmentName;
+		if (attachmentCompressor.isApplicable(data.length, type)) {
+			byte[] compressed = attachmentCompressor.compress(data);
+			if (compressed != null) {
+				content = compressed;
+				contentType = AttachmentCompressor.GZIP_TYPE;
+				fileName += AttachmentCompressor.GZIP_EXTENSION;
+				message = format(COMPRESSED_ATTACHMENT_FORMAT, attachmentName, type, data.length);
+			}
+		}
+		rq.setMessage(message);
+		SaveLogRQ.File file = new SaveLogRQ.File();
+		file.setName(fileName);
+		file.setContent(content);
+		file.setContentType(contentType);
+		rq.setFile(file);
+		return rq;
 	}
 
 	/**
@@ -955,7 +1471,51 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * @param message a text message
 	 */
 	protected void sendLog(@Nullable String message) {
-		ReportPortal.emitLog(message, LogLevel.INFO.name(), Instant.now());
+		sendLog(() -> message, LogLevel.INFO);
+	}
+
+	/**
+	 * Send a text log entry to ReportPortal, using current datetime as timestamp. The message is built only if the level is
+	 * accepted by {@link #isLogEnabled(LogLevel)}.
+	 *
+	 * @param messageSupplier a text message supplier
+	 * @param level           log level
+	 */
+	protected void sendLog(@Nonnull Supplier<String> messageSupplier, @Nonnull LogLevel level) {
+		if (!isLogEnabled(level)) {
+			return;
+		}
+		String message = messageSupplier.get();
+		logSent(RunSummary.utf8Length(message));
+		ReportPortal.emitLog(message, level.name(), Instant.now());
+	}
+
+	/**
+	 * Checks whether logs of the given level should be sent to ReportPortal. By default, accepts logs with level not lower than
+	 * {@link ReporterParameters#getLogLevel()}. Override to add custom filtering, e.g. sampling.
+	 *
+	 * @param level log level
+	 * @return true if the log should be sent
+	 */
+	protected boolean isLogEnabled(@Nonnull LogLevel level) {
+		return getLogLevelSeverity(level) >= getLogLevelSeverity(reporterParameters.getLogLevel());
+	}
+
+	private static int getLogLevelSeverity(@Nonnull LogLevel level) {
+		switch (level) {
+			case TRACE:
+				return 0;
+			case DEBUG:
+				return 1;
+			case WARN:
+				return 3;
+			case ERROR:
+				return 4;
+			case FATAL:
+				return 5;
+			default:
+				return 2;
+		}
 	}
 
 	/**
@@ -985,7 +1545,30 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 */
 	@Nonnull
 	protected Maybe<String> startRule(@Nonnull Maybe<String> featureId, @Nonnull StartTestItemRQ ruleRq) {
-		return getLaunch().startTestItem(featureId, ruleRq);
+		return itemStarted(ItemKind.RULE, getLaunch().startTestItem(featureId, ruleRq));
+	}
+
+	private void beforeRule(@Nonnull FeatureContext f, @Nonnull RuleContext r) {
+		// Scenarios of the same rule may start in parallel
+		synchronized (r) {
+			//noinspection ReactiveStreamsUnusedPublisher
+			if (r.getId().equals(Maybe.empty())) {
+				ItemEventTimer ruleEvent = ItemEventTimer.start();
+				r.setId(startRule(f.getId(), buildStartRuleRequest(r.getRule())));
+				ruleEvent.record(ItemKind.RULE, ItemEvent.Action.START, r.getUri(), r.getLine());
+			}
+		}
+	}
+
+	private void finishRule(@Nonnull RuleContext r, @Nullable Instant endTime) {
+		//noinspection ReactiveStreamsUnusedPublisher
+		if (r.getId().equals(Maybe.empty()) || !r.finish()) {
+			return;
+		}
+		ItemEventTimer ruleEvent = ItemEventTimer.start();
+		finishTestItem(r.getId(), null, endTime);
+		itemFinished(ItemKind.RULE);
+		ruleEvent.record(ItemKind.RULE, ItemEvent.Action.FINISH, r.getUri(), r.getLine());
 	}
 
 	/**
@@ -997,21 +1580,7 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		execute(
 				scenario, (f, s) -> {
 					Optional<RuleContext> rule = s.getRule();
-					Optional<RuleContext> currentRule = f.getCurrentRule();
-					if (!currentRule.equals(rule)) {
-						if (currentRule.isEmpty()) {
-							rule.ifPresent(r -> {
-								r.setId(startRule(f.getId(), buildStartRuleRequest(r.getRule())));
-								f.setCurrentRule(r);
-							});
-						} else {
-							finishTestItem(currentRule.get().getId());
-							rule.ifPresent(r -> {
-								r.setId(startRule(f.getId(), buildStartRuleRequest(r.getRule())));
-								f.setCurrentRule(r);
-							});
-						}
-					}
+					rule.ifPresent(r -> beforeRule(f, r));
 					Maybe<String> rootId = rule.map(RuleContext::getId).orElseGet(f::getId);
 
 					// If it's a ScenarioOutline use Example's line number as code reference to detach one Test Item from another
@@ -1092,26 +1661,61 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * @param event the test run started event
 	 */
 	protected void handleStartOfLaunch(TestRunStarted event) {
+		launchStartTime = System.nanoTime();
+		if (reporterParameters.isMetricsEnabled()) {
+			handlerMetrics.register();
+		}
 		beforeLaunch();
 	}
 
 	/**
 	 * Handles the Cucumber {@link TestRunFinished} event by finalizing the ReportPortal launch.
 	 * <p>
-	 * Delegates to {@link #afterLaunch()} to properly close the launch.
+	 * Delegates to {@link #afterLaunch()} to properly close the launch, logs the event handler latency summary, writes the
+	 * reporting summary file if {@link ReporterParameters#getSummaryFile()} is set,
+	 * removes temporary attachment files afterward and reports attachment deduplication savings.
 	 *
 	 * @param event the test run finished event
 	 */
 	protected void handleFinishOfLaunch(TestRunFinished event) {
+		if (launchLogQuota.getDroppedCount() > 0) {
+			String message = format(LAUNCH_LOG_QUOTA_FORMAT, launchLogQuota.getDroppedCount(), launchLogQuota.getDroppedBytes());
+			LOGGER.warn(message);
+			logSent(RunSummary.utf8Length(message));
+			ReportPortal.emitLaunchLog(message, LogLevel.WARN.name(), Instant.now());
+		}
+		long finishStartTime = System.nanoTime();
+		finishStartedFeatures();
 		afterLaunch();
+		long finishEndTime = System.nanoTime();
+		if (reporterParameters.isMetricsEnabled()) {
+			LOGGER.info(handlerMetrics.getSummary());
+			handlerMetrics.unregister();
+		}
+		ofNullable(reporterParameters.getSummaryFile()).ifPresent(file -> {
+			runSummary.setHandlerTime(handlerMetrics.getTotalHandlerTime());
+			runSummary.setRunTime(finishEndTime - launchStartTime);
+			runSummary.setDrainTime(finishEndTime - finishStartTime);
+			writeSummary(Paths.get(file));
+		});
+		attachmentSpooler.cleanup();
+		if (attachmentDeduplicator.getSavedAttachments() > 0) {
+			LOGGER.info(
+					"Attachment deduplication saved {} bytes in {} attachments",
+					attachmentDeduplicator.getSavedBytes(),
+					attachmentDeduplicator.getSavedAttachments()
+			);
+		}
 	}
 
 	/**
 	 * Handles a Cucumber {@link TestSourceParsed} event by materializing feature metadata into
 	 * internal context structures. For each node provided by the event:
 	 * <ul>
-	 *   <li>If the node is a {@link Feature}, a new {@link FeatureContext} is created and stored
-	 *   in {@code featureContextMap} under the feature {@link URI}.</li>
+	 *   <li>If the node is a {@link Feature}, a memoizing supplier of its {@link FeatureContext} is stored in
+	 *   {@code featureContextMap} under the feature {@link URI}. The context is built with
+	 *   {@link #buildFeatureContext(Feature)} on the first Scenario of the feature, so features which don't run are never
+	 *   indexed.</li>
 	 *   <li>For any other node type, a warning is logged and the node is ignored.</li>
 	 * </ul>
 	 * <p>
@@ -1124,13 +1728,25 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		parseEvent.getNodes().forEach(n -> {
 			if (n instanceof Feature) {
 				Feature feature = (Feature) n;
-				featureContextMap.computeIfAbsent(feature.getUri(), u -> new FeatureContext(feature));
+				featureContextMap.computeIfAbsent(feature.getUri(), u -> new MemoizingSupplier<>(() -> buildFeatureContext(feature)));
 			} else {
 				LOGGER.warn("Unknown node type: {}", n.getClass().getSimpleName());
 			}
 		});
 	}
 
+	/**
+	 * Extension point to customize Feature context creation. The method is called once per feature, on the thread which runs
+	 * the first Scenario of the feature.
+	 *
+	 * @param feature parsed feature
+	 * @return Feature context with all its Rules and Scenarios
+	 */
+	@Nonnull
+	protected FeatureContext buildFeatureContext(@Nonnull Feature feature) {
+		return new FeatureContext(feature);
+	}
+
 	/**
 	 * Handles a Cucumber {@link TestCaseStarted} event by preparing and starting
 	 * corresponding Feature/Rule/Scenario items in ReportPortal.
@@ -1146,7 +1762,9 @@ public class ScenarioReporter implements ConcurrentEventListener {
 		execute(
 				testCase, (f, s) -> {
 					s.setTestCase(testCase);
+					ItemEventTimer scenarioEvent = ItemEventTimer.start();
 					beforeScenario(testCase);
+					scenarioEvent.record(ItemKind.SCENARIO, ItemEvent.Action.START, testCase.getUri(), s.getLine());
 				}
 		);
 	}
@@ -1162,10 +1780,18 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 */
 	protected void handleFinishOfTestCase(TestCaseFinished event) {
 		TestCase testCase = event.getTestCase();
+		flushLogs(testCase);
 		Status status = event.getResult().getStatus();
 		Throwable error = event.getResult().getError();
 		afterHooksSuite(testCase);
+		ItemEventTimer scenarioEvent = ItemEventTimer.start();
 		afterScenario(testCase, status, error);
+		scenarioEvent.record(
+				ItemKind.SCENARIO,
+				ItemEvent.Action.FINISH,
+				testCase.getUri(),
+				testCase.getLocation().getLine()
+		);
 		afterFeature(testCase);
 	}
 
@@ -1173,18 +1799,27 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * Handles a Cucumber {@link TestStepStarted} event.
 	 * <p>
 	 * Starts a corresponding hook or step item depending on the runtime type of the step.
-	 * Logs a warning for unknown step types.
+	 * Logs a warning for unknown step types. Does nothing in {@link ReporterParameters.ReportingMode#SCENARIO} reporting mode.
 	 *
 	 * @param event the test step started event
 	 */
 	protected void handleTestStepStarted(@Nonnull TestStepStarted event) {
-		TestStep testStep = event.getTestStep();
 		TestCase testCase = event.getTestCase();
+		flushLogs(testCase);
+		if (isScenarioReportingMode()) {
+			return;
+		}
+		TestStep testStep = event.getTestStep();
 		if (testStep instanceof HookTestStep) {
+			ItemEventTimer hookEvent = ItemEventTimer.start();
 			beforeHooks(testCase, (HookTestStep) testStep);
+			hookEvent.recordHook(ItemEvent.Action.START, testCase.getUri(), testStep.getCodeLocation());
 		} else if (testStep instanceof PickleStepTestStep) {
 			afterHooksSuite(testCase);
-			beforeStep(testCase, (PickleStepTestStep) testStep);
+			PickleStepTestStep step = (PickleStepTestStep) testStep;
+			ItemEventTimer stepEvent = ItemEventTimer.start();
+			beforeStep(testCase, step);
+			stepEvent.record(ItemKind.STEP, ItemEvent.Action.START, testCase.getUri(), step.getStep().getLocation().getLine());
 		} else {
 			LOGGER.warn("Unable to start unknown step type: {}", testStep.getClass().getSimpleName());
 		}
@@ -1194,17 +1829,28 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * Handles a Cucumber {@link TestStepFinished} event.
 	 * <p>
 	 * Finalizes the corresponding hook or step item depending on the runtime type of the step.
-	 * Logs a warning for unknown step types.
+	 * Logs a warning for unknown step types. In {@link ReporterParameters.ReportingMode#SCENARIO} reporting mode the step
+	 * is folded into the Scenario summary instead.
 	 *
 	 * @param event the test step finished event
 	 */
 	protected void handleTestStepFinished(@Nonnull TestStepFinished event) {
 		TestStep testStep = event.getTestStep();
 		TestCase testCase = event.getTestCase();
+		flushLogs(testCase);
+		if (isScenarioReportingMode()) {
+			recordStep(testCase, testStep, event.getResult());
+			return;
+		}
 		if (testStep instanceof HookTestStep) {
+			ItemEventTimer hookEvent = ItemEventTimer.start();
 			afterHooks(testCase, (HookTestStep) testStep, event.getResult());
+			hookEvent.recordHook(ItemEvent.Action.FINISH, testCase.getUri(), testStep.getCodeLocation());
 		} else if (testStep instanceof PickleStepTestStep) {
-			afterStep(testCase, (PickleStepTestStep) testStep, event.getResult());
+			PickleStepTestStep step = (PickleStepTestStep) testStep;
+			ItemEventTimer stepEvent = ItemEventTimer.start();
+			afterStep(testCase, step, event.getResult());
+			stepEvent.record(ItemKind.STEP, ItemEvent.Action.FINISH, testCase.getUri(), step.getStep().getLocation().getLine());
 		} else {
 			LOGGER.warn("Unable to finish unknown step type: {}", testStep.getClass().getSimpleName());
 		}
@@ -1213,23 +1859,129 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	/**
 	 * Handles a Cucumber {@link EmbedEvent} by forwarding the attachment to ReportPortal.
 	 * <p>
-	 * Delegates to {@link #embedding(String, String, byte[])} to send the data.
+	 * Delegates to {@link #embedding(String, String, Supplier)} to send the data. The attachment is dropped if it does not fit
+	 * into the Scenario or the launch log quota. The quota is charged after deduplication, so a repeated attachment costs
+	 * only the size of its reference log.
 	 *
 	 * @param event the embed event containing name, media type and data
 	 */
 	protected void handleEmbedEvent(EmbedEvent event) {
-		embedding(event.getName(), event.getMediaType(), event.getData());
+		flushLogs(event.getTestCase());
+		embedding(event.getName(), event.getMediaType(), event::getData, size -> acquireLogQuota(event.getTestCase(), size));
 	}
 
 	/**
 	 * Handles a Cucumber {@link WriteEvent} by sending the provided text to ReportPortal.
 	 * <p>
-	 * Delegates to {@link #sendLog(String)}.
+	 * Delegates to {@link #sendLog(Supplier, LogLevel)}. If log aggregation is enabled, consecutive texts of the same Scenario
+	 * are merged into a single log entry, which is sent when the time or size window is exceeded or on the next Step, Hook,
+	 * attachment or Scenario boundary. The text is dropped if it does not fit into the Scenario or the launch log quota, the
+	 * length of the text in UTF-8 is used as its size.
 	 *
 	 * @param event the write event carrying the text to log
 	 */
 	protected void handleWriteEvent(WriteEvent event) {
-		sendLog(event.getText());
+		if (!isLogEnabled(LogLevel.INFO) || !acquireLogQuota(event.getTestCase(), RunSummary.utf8Length(event.getText()))) {
+			return;
+		}
+		if (!reporterParameters.isLogAggregation()) {
+			sendLog(event::getText, LogLevel.INFO);
+			return;
+		}
+		execute(
+				event.getTestCase(), (f, s) -> {
+					LogBuffer buffer = s.getLogBuffer().orElseGet(() -> {
+						LogBuffer newBuffer = new LogBuffer(
+								Duration.ofMillis(reporterParameters.getLogAggregationTimeWindow()),
+								reporterParameters.getLogAggregationSizeWindow()
+						);
+						s.setLogBuffer(newBuffer);
+						return newBuffer;
+					});
+					ofNullable(buffer.append(event.getText(), event.getInstant())).ifPresent(this::emitBufferedLog);
+				}
+		);
+	}
+
+	/**
+	 * Accounts a log or an attachment of a Scenario in the Scenario and the launch log quotas.
+	 *
+	 * @param testCase current Cucumber test case
+	 * @param size     the log or the attachment size
+	 * @return true if the entry fits into the quotas and should be sent
+	 */
+	private boolean acquireLogQuota(@Nonnull TestCase testCase, long size) {
+		long scenarioCount = reporterParameters.getScenarioLogQuotaCount();
+		long scenarioBytes = reporterParameters.getScenarioLogQuotaBytes();
+		if (scenarioCount > 0 || scenarioBytes > 0) {
+			AtomicBoolean accepted = new AtomicBoolean(true);
+			execute(
+					testCase, (f, s) -> {
+						LogQuota quota = s.getLogQuota().orElseGet(() -> {
+							LogQuota newQuota = new LogQuota(scenarioCount, scenarioBytes);
+							s.setLogQuota(newQuota);
+							return newQuota;
+						});
+						accepted.set(quota.tryAcquire(size));
+					}
+			);
+			if (!accepted.get()) {
+				return false;
+			}
+		}
+		return !launchLogQuota.isEnabled() || launchLogQuota.tryAcquire(size);
+	}
+
+	@Nonnull
+	private Maybe<String> itemStarted(@Nonnull ItemKind kind, @Nonnull Maybe<String> itemId) {
+		long openItems = runSummary.itemStarted(kind);
+		reporterMetrics.itemStarted(kind);
+		reporterMetrics.queueDepth(openItems);
+		return itemId;
+	}
+
+	private void itemFinished(@Nonnull ItemKind kind) {
+		long openItems = runSummary.itemFinished();
+		reporterMetrics.itemFinished(kind);
+		reporterMetrics.queueDepth(openItems);
+	}
+
+	private void logSent(long bytes) {
+		runSummary.logSent(bytes);
+		reporterMetrics.logSent(bytes);
+	}
+
+	private void attachmentSent(long bytes) {
+		runSummary.attachmentSent(bytes);
+		reporterMetrics.bytesEmbedded(bytes);
+	}
+
+	private void writeSummary(@Nonnull Path file) {
+		try {
+			runSummary.write(file);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to write reporting summary file: {}", file, e);
+		}
+	}
+
+	private void emitBufferedLog(@Nonnull Pair<Instant, String> log) {
+		logSent(RunSummary.utf8Length(log.getValue()));
+		ReportPortal.emitLog(log.getValue(), LogLevel.INFO.name(), log.getKey());
+	}
+
+	/**
+	 * Sends merged text logs of the Scenario, if any.
+	 *
+	 * @param testCase current Cucumber test case
+	 */
+	private void flushLogs(@Nonnull TestCase testCase) {
+		if (!reporterParameters.isLogAggregation()) {
+			return;
+		}
+		execute(
+				testCase,
+				(f, s) -> s.getLogBuffer().map(LogBuffer::poll).ifPresent(this::emitBufferedLog)
+		);
 	}
 
 	protected EventHandler<TestRunStarted> getTestRunStartedHandler() {
@@ -1283,18 +2035,19 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * <li>{@link EmbedEvent} - calling scenario.embed in a hook triggers this event.
 	 * <li>{@link WriteEvent} - calling scenario.write in a hook triggers this event.
 	 * </ul>
+	 * If {@link ReporterParameters#isMetricsEnabled()} is on, Test Case, Test Step, Embed and Write handlers are measured.
 	 */
 	@Override
 	public void setEventPublisher(EventPublisher publisher) {
 		publisher.registerHandlerFor(TestRunStarted.class, getTestRunStartedHandler());
 		publisher.registerHandlerFor(TestRunFinished.class, getTestRunFinishedHandler());
 		publisher.registerHandlerFor(TestSourceParsed.class, getTestSourceParsedHandler());
-		publisher.registerHandlerFor(TestCaseStarted.class, getTestCaseStartedHandler());
-		publisher.registerHandlerFor(TestCaseFinished.class, getTestCaseFinishedHandler());
-		publisher.registerHandlerFor(TestStepStarted.class, getTestStepStartedHandler());
-		publisher.registerHandlerFor(TestStepFinished.class, getTestStepFinishedHandler());
-		publisher.registerHandlerFor(EmbedEvent.class, getEmbedEventHandler());
-		publisher.registerHandlerFor(WriteEvent.class, getWriteEventHandler());
+		publisher.registerHandlerFor(TestCaseStarted.class, timed(HandlerType.TEST_CASE_STARTED, getTestCaseStartedHandler()));
+		publisher.registerHandlerFor(TestCaseFinished.class, timed(HandlerType.TEST_CASE_FINISHED, getTestCaseFinishedHandler()));
+		publisher.registerHandlerFor(TestStepStarted.class, timed(HandlerType.TEST_STEP_STARTED, getTestStepStartedHandler()));
+		publisher.registerHandlerFor(TestStepFinished.class, timed(HandlerType.TEST_STEP_FINISHED, getTestStepFinishedHandler()));
+		publisher.registerHandlerFor(EmbedEvent.class, timed(HandlerType.EMBED, getEmbedEventHandler()));
+		publisher.registerHandlerFor(WriteEvent.class, timed(HandlerType.WRITE, getWriteEventHandler()));
 	}
 
 	/**
@@ -1330,15 +2083,39 @@ public class ScenarioReporter implements ConcurrentEventListener {
 	 * @return Description with error
 	 */
 	private String resolveDescriptionErrorMessage(String currentDescription, Throwable error) {
-		String errorStr = getReportPortal().getParameters().isExceptionTruncate() ?
-				format(ERROR_FORMAT, getStackTrace(error, new Throwable())) :
-				format(ERROR_FORMAT, ExceptionUtils.getStackTrace(error));
+		String errorStr = getErrorReference(error).map(reference -> format(ERROR_FORMAT, reference)).orElseGet(() -> {
+			String stackTrace = renderStackTrace(error);
+			// the first reported error is marked with the fingerprint its duplicates refer to
+			return reporterParameters.isErrorDeduplication() ?
+					format(IDENTIFIED_ERROR_FORMAT, errorFingerprinter.getId(error), stackTrace) :
+					format(ERROR_FORMAT, stackTrace);
+		});
 		return Optional.ofNullable(currentDescription)
 				.filter(StringUtils::isNotBlank)
 				.map(description -> MarkdownUtils.asTwoParts(currentDescription, errorStr))
 				.orElse(errorStr);
 	}
 
+	/**
+	 * Render a stack trace of the error. The result is bounded by {@link ReporterParameters#getErrorMaxFrames()} and
+	 * {@link ReporterParameters#getErrorMaxCauseDepth()} and rendered only once per throwable instance.
+	 *
+	 * @param error an error to render
+	 * @return rendered stack trace
+	 */
+	@Nonnull
+	private String renderStackTrace(@Nonnull Throwable error) {
+		return renderedErrors.computeIfAbsent(
+				error, e -> {
+					boolean truncate = getReportPortal().getParameters().isExceptionTruncate();
+					if (stackTraceRenderer.isBounded()) {
+						return stackTraceRenderer.render(e, truncate ? new Throwable().getStackTrace() : null);
+					}
+					return truncate ? getStackTrace(e, new Throwable()) : ExceptionUtils.getStackTrace(e);
+				}
+		);
+	}
+
 	/**
 	 * Map Cucumber statuses to RP item statuses
 	 *
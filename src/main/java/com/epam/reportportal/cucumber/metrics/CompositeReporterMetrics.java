@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Delegates {@link ReporterMetrics} calls to several implementations.
+ */
+public class CompositeReporterMetrics implements ReporterMetrics {
+	private final List<ReporterMetrics> delegates;
+
+	/**
+	 * Creates a new composite.
+	 *
+	 * @param delegates implementations to call, in the call order
+	 */
+	public CompositeReporterMetrics(@Nonnull Collection<? extends ReporterMetrics> delegates) {
+		this.delegates = Collections.unmodifiableList(new ArrayList<>(delegates));
+	}
+
+	/**
+	 * @return implementations to call
+	 */
+	@Nonnull
+	public List<ReporterMetrics> getDelegates() {
+		return delegates;
+	}
+
+	@Override
+	public void itemStarted(@Nonnull ItemKind kind) {
+		delegates.forEach(d -> d.itemStarted(kind));
+	}
+
+	@Override
+	public void itemFinished(@Nonnull ItemKind kind) {
+		delegates.forEach(d -> d.itemFinished(kind));
+	}
+
+	@Override
+	public void queueDepth(long depth) {
+		delegates.forEach(d -> d.queueDepth(depth));
+	}
+
+	@Override
+	public void logSent(long bytes) {
+		delegates.forEach(d -> d.logSent(bytes));
+	}
+
+	@Override
+	public void bytesEmbedded(long bytes) {
+		delegates.forEach(d -> d.bytesEmbedded(bytes));
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Latency statistics of an event handler in nanoseconds.
+ */
+public class HandlerLatency {
+	private final long count;
+	private final long total;
+	private final long p50;
+	private final long p99;
+	private final long max;
+
+	@ConstructorProperties({ "count", "total", "p50", "p99", "max" })
+	public HandlerLatency(long count, long total, long p50, long p99, long max) {
+		this.count = count;
+		this.total = total;
+		this.p50 = p50;
+		this.p99 = p99;
+		this.max = max;
+	}
+
+	/**
+	 * @return number of handled events
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return total handling time
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	/**
+	 * @return median handling time
+	 */
+	public long getP50() {
+		return p50;
+	}
+
+	/**
+	 * @return 99th percentile of handling time
+	 */
+	public long getP99() {
+		return p99;
+	}
+
+	/**
+	 * @return maximum handling time
+	 */
+	public long getMax() {
+		return max;
+	}
+}
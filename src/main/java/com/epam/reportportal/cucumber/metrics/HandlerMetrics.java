@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import io.cucumber.plugin.event.EventHandler;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Measures time the agent spends in Cucumber event handlers. Each handler type has its own {@link LatencyHistogram}.
+ * The statistics can be exposed via JMX with {@link #register()}.
+ */
+public class HandlerMetrics implements HandlerMetricsMXBean {
+	private static final Logger LOGGER = LoggerFactory.getLogger(HandlerMetrics.class);
+	private static final String OBJECT_NAME_FORMAT = "com.epam.reportportal.cucumber:type=HandlerMetrics,name=%08x";
+	private static final String SUMMARY_LINE_FORMAT = "%n  %-18s count=%d, p50=%.3f ms, p99=%.3f ms, max=%.3f ms, total=%.3f ms";
+	private static final double NANOS_IN_MILLI = 1_000_000.0;
+
+	private final Map<HandlerType, LatencyHistogram> histograms = new EnumMap<>(HandlerType.class);
+	private volatile ObjectName objectName;
+
+	public HandlerMetrics() {
+		for (HandlerType type : HandlerType.values()) {
+			histograms.put(type, new LatencyHistogram());
+		}
+	}
+
+	/**
+	 * Wraps an event handler with time measurement.
+	 *
+	 * @param type    handler type
+	 * @param handler an event handler to measure
+	 * @param <T>     event type
+	 * @return measured event handler
+	 */
+	@Nonnull
+	public <T> EventHandler<T> timed(@Nonnull HandlerType type, @Nonnull EventHandler<T> handler) {
+		LatencyHistogram histogram = histograms.get(type);
+		return event -> {
+			long start = System.nanoTime();
+			try {
+				handler.receive(event);
+			} finally {
+				histogram.record(System.nanoTime() - start);
+			}
+		};
+	}
+
+	/**
+	 * Returns a snapshot of the given handler type histogram.
+	 *
+	 * @param type handler type
+	 * @return histogram snapshot
+	 */
+	@Nonnull
+	public LatencyHistogram.Snapshot getSnapshot(@Nonnull HandlerType type) {
+		return histograms.get(type).snapshot();
+	}
+
+	@Override
+	@Nonnull
+	public Map<String, HandlerLatency> getHandlerLatencies() {
+		Map<String, HandlerLatency> result = new LinkedHashMap<>();
+		histograms.forEach((type, histogram) -> {
+			LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+			result.put(
+					type.name(), new HandlerLatency(
+							snapshot.getCount(),
+							snapshot.getSum(),
+							snapshot.getValueAtPercentile(50),
+							snapshot.getValueAtPercentile(99),
+							snapshot.getMax()
+					)
+			);
+		});
+		return result;
+	}
+
+	@Override
+	public long getTotalHandlerTime() {
+		return histograms.values().stream().mapToLong(h -> h.snapshot().getSum()).sum();
+	}
+
+	/**
+	 * Builds a human-readable summary of handler latencies.
+	 *
+	 * @return summary text
+	 */
+	@Nonnull
+	public String getSummary() {
+		StringBuilder result = new StringBuilder("Reporter event handler latencies:");
+		getHandlerLatencies().forEach((type, latency) -> result.append(format(
+				SUMMARY_LINE_FORMAT,
+				type,
+				latency.getCount(),
+				latency.getP50() / NANOS_IN_MILLI,
+				latency.getP99() / NANOS_IN_MILLI,
+				latency.getMax() / NANOS_IN_MILLI,
+				latency.getTotal() / NANOS_IN_MILLI
+		)));
+		return result.toString();
+	}
+
+	/**
+	 * Registers the metrics in the platform MBean server.
+	 */
+	public void register() {
+		try {
+			ObjectName name = new ObjectName(format(OBJECT_NAME_FORMAT, System.identityHashCode(this)));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			objectName = name;
+		} catch (JMException e) {
+			LOGGER.warn("Unable to register reporter metrics MBean", e);
+		}
+	}
+
+	/**
+	 * Removes the metrics from the platform MBean server, if they were registered.
+	 */
+	public void unregister() {
+		ObjectName name = objectName;
+		if (name == null) {
+			return;
+		}
+		objectName = null;
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.unregisterMBean(name);
+		} catch (JMException e) {
+			LOGGER.warn("Unable to unregister reporter metrics MBean", e);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the agent event handler latencies.
+ */
+public interface HandlerMetricsMXBean {
+	/**
+	 * @return latency statistics by handler type name
+	 */
+	Map<String, HandlerLatency> getHandlerLatencies();
+
+	/**
+	 * @return total time in nanoseconds spent in all measured handlers
+	 */
+	long getTotalHandlerTime();
+}
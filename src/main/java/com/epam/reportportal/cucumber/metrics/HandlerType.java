@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+/**
+ * Cucumber events, handling time of which is measured by the agent.
+ */
+public enum HandlerType {
+	TEST_CASE_STARTED,
+	TEST_STEP_STARTED,
+	TEST_STEP_FINISHED,
+	TEST_CASE_FINISHED,
+	EMBED,
+	WRITE
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ReporterMetrics} implementation, which keeps counters in memory. Useful for tests and as a reference implementation.
+ */
+public class InMemoryReporterMetrics implements ReporterMetrics {
+	private final Map<ItemKind, LongAdder> startedItems = new EnumMap<>(ItemKind.class);
+	private final Map<ItemKind, LongAdder> finishedItems = new EnumMap<>(ItemKind.class);
+	private final AtomicLong queueDepth = new AtomicLong();
+	private final AtomicLong maxQueueDepth = new AtomicLong();
+	private final LongAdder logCount = new LongAdder();
+	private final LongAdder logBytes = new LongAdder();
+	private final LongAdder attachmentCount = new LongAdder();
+	private final LongAdder embeddedBytes = new LongAdder();
+
+	public InMemoryReporterMetrics() {
+		for (ItemKind kind : ItemKind.values()) {
+			startedItems.put(kind, new LongAdder());
+			finishedItems.put(kind, new LongAdder());
+		}
+	}
+
+	@Override
+	public void itemStarted(@Nonnull ItemKind kind) {
+		startedItems.get(kind).increment();
+	}
+
+	@Override
+	public void itemFinished(@Nonnull ItemKind kind) {
+		finishedItems.get(kind).increment();
+	}
+
+	@Override
+	public void queueDepth(long depth) {
+		queueDepth.set(depth);
+		maxQueueDepth.accumulateAndGet(depth, Math::max);
+	}
+
+	@Override
+	public void logSent(long bytes) {
+		logCount.increment();
+		logBytes.add(bytes);
+	}
+
+	@Override
+	public void bytesEmbedded(long bytes) {
+		attachmentCount.increment();
+		embeddedBytes.add(bytes);
+	}
+
+	/**
+	 * @param kind item kind
+	 * @return number of started items of the given kind
+	 */
+	public long getStartedItems(@Nonnull ItemKind kind) {
+		return startedItems.get(kind).sum();
+	}
+
+	/**
+	 * @param kind item kind
+	 * @return number of finished items of the given kind
+	 */
+	public long getFinishedItems(@Nonnull ItemKind kind) {
+		return finishedItems.get(kind).sum();
+	}
+
+	/**
+	 * @return the last reported number of open items
+	 */
+	public long getQueueDepth() {
+		return queueDepth.get();
+	}
+
+	/**
+	 * @return maximum reported number of open items
+	 */
+	public long getMaxQueueDepth() {
+		return maxQueueDepth.get();
+	}
+
+	/**
+	 * @return number of sent text logs
+	 */
+	public long getLogCount() {
+		return logCount.sum();
+	}
+
+	/**
+	 * @return total size of sent text logs in bytes
+	 */
+	public long getLogBytes() {
+		return logBytes.sum();
+	}
+
+	/**
+	 * @return number of sent attachments
+	 */
+	public long getAttachmentCount() {
+		return attachmentCount.sum();
+	}
+
+	/**
+	 * @return total size of sent attachments in bytes
+	 */
+	public long getEmbeddedBytes() {
+		return embeddedBytes.sum();
+	}
+}
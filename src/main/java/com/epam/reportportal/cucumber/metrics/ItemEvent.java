@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.*;
+
+import java.net.URI;
+
+/**
+ * Java Flight Recorder event of a reporting lifecycle action: start or finish of a Feature, Rule, Scenario, Step or Hook. The
+ * event duration is the time the agent spent on the action.
+ * <p>
+ * The event is disabled by default. To record it, enable <code>com.epam.reportportal.cucumber.Item</code> event in the flight
+ * recording settings. The agent creates the event through {@link ItemEventTimer}, so the class is not loaded if Java Flight
+ * Recorder is not available in the runtime.
+ */
+@Name(ItemEvent.NAME)
+@Label("ReportPortal Item")
+@Description("Time spent by the ReportPortal Cucumber agent on a reporting lifecycle action")
+@Category({ "ReportPortal", "Cucumber Agent" })
+@Enabled(false)
+@StackTrace(false)
+public class ItemEvent extends Event {
+	public static final String NAME = "com.epam.reportportal.cucumber.Item";
+
+	/**
+	 * Lifecycle action.
+	 */
+	public enum Action {
+		START,
+		FINISH
+	}
+
+	@Label("Item Type")
+	private String itemType;
+
+	@Label("Action")
+	private String action;
+
+	@Label("URI")
+	private String uri;
+
+	@Label("Line")
+	private int line;
+
+	@Label("Code Location")
+	private String codeLocation;
+
+	/**
+	 * Ends the event timing and commits the event, if it is enabled. Fields are set only for committed events.
+	 *
+	 * @param type         reported item type
+	 * @param action       lifecycle action
+	 * @param uri          feature file URI
+	 * @param line         item line in the feature file, 0 for items which are not defined in the feature file, e.g. Hooks
+	 * @param codeLocation code location of a Hook, null for other items
+	 */
+	public void record(@Nonnull ItemKind type, @Nonnull Action action, @Nonnull URI uri, int line, @Nullable String codeLocation) {
+		end();
+		if (shouldCommit()) {
+			itemType = type.name();
+			this.action = action.name();
+			this.uri = uri.toString();
+			this.line = line;
+			this.codeLocation = codeLocation;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+import jdk.jfr.EventType;
+
+import java.net.URI;
+
+/**
+ * Times a reporting lifecycle action and records it as {@link ItemEvent}. If Java Flight Recorder is not available in the
+ * runtime, or the event is not enabled in any running recording, {@link #start()} returns a shared timer which does nothing,
+ * so the action timing does not allocate anything.
+ */
+public class ItemEventTimer {
+	private static final String JFR_CLASS = "jdk.jfr.FlightRecorder";
+	private static final ItemEventTimer NOOP = new ItemEventTimer();
+	private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+	private ItemEventTimer() {
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class.forName(JFR_CLASS, false, ItemEventTimer.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Starts timing of an action.
+	 *
+	 * @return a timer which records {@link ItemEvent} if the event is enabled, a shared no-op timer otherwise
+	 */
+	@Nonnull
+	public static ItemEventTimer start() {
+		return JFR_AVAILABLE && JfrItemEventTimer.isEnabled() ? new JfrItemEventTimer() : NOOP;
+	}
+
+	/**
+	 * Ends timing of a Feature, Rule, Scenario or Step action and records the event.
+	 *
+	 * @param type   reported item type
+	 * @param action lifecycle action
+	 * @param uri    feature file URI
+	 * @param line   item line in the feature file
+	 */
+	public void record(@Nonnull ItemKind type, @Nonnull ItemEvent.Action action, @Nonnull URI uri, int line) {
+	}
+
+	/**
+	 * Ends timing of a Hook action and records the event.
+	 *
+	 * @param action       lifecycle action
+	 * @param uri          URI of the feature file, which the Hook is executed for
+	 * @param codeLocation code location of the Hook
+	 */
+	public void recordHook(@Nonnull ItemEvent.Action action, @Nonnull URI uri, @Nonnull String codeLocation) {
+	}
+
+	/**
+	 * The timer which is backed by a flight recorder event. Loaded only if Java Flight Recorder is available.
+	 */
+	private static final class JfrItemEventTimer extends ItemEventTimer {
+		private static final EventType EVENT_TYPE = EventType.getEventType(ItemEvent.class);
+
+		private final ItemEvent event = new ItemEvent();
+
+		private JfrItemEventTimer() {
+			event.begin();
+		}
+
+		private static boolean isEnabled() {
+			return EVENT_TYPE.isEnabled();
+		}
+
+		@Override
+		public void record(@Nonnull ItemKind type, @Nonnull ItemEvent.Action action, @Nonnull URI uri, int line) {
+			event.record(type, action, uri, line, null);
+		}
+
+		@Override
+		public void recordHook(@Nonnull ItemEvent.Action action, @Nonnull URI uri, @Nonnull String codeLocation) {
+			event.record(ItemKind.HOOK, action, uri, 0, codeLocation);
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram. Every recording thread writes to its own set of counters, so recording does not contend with
+ * other threads; counters of all threads are merged on {@link #snapshot()}.
+ * <p>
+ * Values are stored in log-linear buckets: each power of two range is split into 8 sub-buckets, so the relative error of
+ * a percentile is at most 12.5%.
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+	private final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(() -> {
+		Recorder r = new Recorder();
+		recorders.add(r);
+		return r;
+	});
+
+	static int getBucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) Math.max(value, 0);
+		}
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long getBucketUpperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = index % SUB_BUCKETS;
+		int shift = exponent - SUB_BUCKET_BITS;
+		return ((SUB_BUCKETS + subBucket) << shift) + (1L << shift) - 1;
+	}
+
+	/**
+	 * Records a value for the current thread.
+	 *
+	 * @param value a value to record, e.g. latency in nanoseconds
+	 */
+	public void record(long value) {
+		recorder.get().record(value);
+	}
+
+	/**
+	 * Merges values recorded by all threads.
+	 *
+	 * @return a point-in-time histogram snapshot
+	 */
+	@Nonnull
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		long count = 0;
+		long sum = 0;
+		long max = 0;
+		for (Recorder r : recorders) {
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] += r.counts.get(i);
+			}
+			count += r.count.get();
+			sum += r.sum.get();
+			max = Math.max(max, r.max.get());
+		}
+		return new Snapshot(counts, count, sum, max);
+	}
+
+	/**
+	 * Counters of a single thread. Each counter has only one writer, so lazy sets are used instead of CAS operations.
+	 */
+	private static final class Recorder {
+		private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong sum = new AtomicLong();
+		private final AtomicLong max = new AtomicLong();
+
+		private void record(long value) {
+			int index = getBucketIndex(value);
+			counts.lazySet(index, counts.get(index) + 1);
+			count.lazySet(count.get() + 1);
+			sum.lazySet(sum.get() + value);
+			if (value > max.get()) {
+				max.lazySet(value);
+			}
+		}
+	}
+
+	/**
+	 * Merged histogram values.
+	 */
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long count;
+		private final long sum;
+		private final long max;
+
+		private Snapshot(@Nonnull long[] counts, long count, long sum, long max) {
+			this.counts = counts;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		/**
+		 * @return number of recorded values
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return sum of recorded values
+		 */
+		public long getSum() {
+			return sum;
+		}
+
+		/**
+		 * @return maximum recorded value
+		 */
+		public long getMax() {
+			return max;
+		}
+
+		/**
+		 * Returns an approximate value at the given percentile.
+		 *
+		 * @param percentile a percentile in range from 0 to 100
+		 * @return the upper bound of the bucket which contains the percentile, but not greater than the maximum value
+		 */
+		public long getValueAtPercentile(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return Math.min(getBucketUpperBound(i), max);
+				}
+			}
+			return max;
+		}
+	}
+}
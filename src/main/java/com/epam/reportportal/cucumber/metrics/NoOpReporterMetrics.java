@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Default {@link ReporterMetrics} implementation, which ignores all calls.
+ */
+public final class NoOpReporterMetrics implements ReporterMetrics {
+	public static final NoOpReporterMetrics INSTANCE = new NoOpReporterMetrics();
+
+	private NoOpReporterMetrics() {
+	}
+
+	@Override
+	public void itemStarted(@Nonnull ItemKind kind) {
+	}
+
+	@Override
+	public void itemFinished(@Nonnull ItemKind kind) {
+	}
+
+	@Override
+	public void queueDepth(long depth) {
+	}
+
+	@Override
+	public void logSent(long bytes) {
+	}
+
+	@Override
+	public void bytesEmbedded(long bytes) {
+	}
+}
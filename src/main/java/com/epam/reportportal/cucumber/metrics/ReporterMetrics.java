@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Service provider interface to bridge the agent reporting lifecycle to a custom metrics stack. Implementations are discovered
+ * with {@link ServiceLoader}, so they should be listed in
+ * <code>META-INF/services/com.epam.reportportal.cucumber.metrics.ReporterMetrics</code> file and have a public no-argument
+ * constructor.
+ * <p>
+ * The methods are called on test threads, so implementations must be thread-safe and should not block.
+ */
+public interface ReporterMetrics {
+
+	/**
+	 * Called when an item is started.
+	 *
+	 * @param kind item kind
+	 */
+	void itemStarted(@Nonnull ItemKind kind);
+
+	/**
+	 * Called when an item is finished.
+	 *
+	 * @param kind item kind
+	 */
+	void itemFinished(@Nonnull ItemKind kind);
+
+	/**
+	 * Called each time the number of started and not yet finished items changes.
+	 *
+	 * @param depth number of open items
+	 */
+	void queueDepth(long depth);
+
+	/**
+	 * Called when a text log is sent.
+	 *
+	 * @param bytes log message size in bytes
+	 */
+	void logSent(long bytes);
+
+	/**
+	 * Called when an attachment is sent.
+	 *
+	 * @param bytes attachment size in bytes, before compression
+	 */
+	void bytesEmbedded(long bytes);
+
+	/**
+	 * Loads all metrics implementations available to the given class loader. Implementations which fail to load are skipped.
+	 *
+	 * @param classLoader class loader to look up implementations
+	 * @return a no-op implementation if there are no implementations, the implementation itself if there is only one, or a
+	 * composite of all of them
+	 */
+	@Nonnull
+	static ReporterMetrics load(@Nullable ClassLoader classLoader) {
+		Logger logger = LoggerFactory.getLogger(ReporterMetrics.class);
+		List<ReporterMetrics> result = new ArrayList<>();
+		Iterator<ReporterMetrics> providers = ServiceLoader.load(ReporterMetrics.class, classLoader).iterator();
+		while (true) {
+			try {
+				if (!providers.hasNext()) {
+					break;
+				}
+				result.add(providers.next());
+			} catch (ServiceConfigurationError e) {
+				logger.warn("Unable to load reporter metrics implementation", e);
+			}
+		}
+		if (result.isEmpty()) {
+			return NoOpReporterMetrics.INSTANCE;
+		}
+		return result.size() == 1 ? result.get(0) : new CompositeReporterMetrics(result);
+	}
+}
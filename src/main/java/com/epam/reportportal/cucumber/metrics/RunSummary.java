@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.metrics;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reporting performance counters of a launch: reported items per kind, logs and attachments, peak number of simultaneously
+ * open items and time spent by the agent. The counters are written as a JSON document at the end of the launch.
+ * <p>
+ * All durations are in nanoseconds.
+ */
+public class RunSummary {
+	private final Map<ItemKind, LongAdder> items = new EnumMap<>(ItemKind.class);
+	private final AtomicLong openItems = new AtomicLong();
+	private final AtomicLong peakOpenItems = new AtomicLong();
+	private final LongAdder logCount = new LongAdder();
+	private final LongAdder logBytes = new LongAdder();
+	private final LongAdder attachmentCount = new LongAdder();
+	private final LongAdder attachmentBytes = new LongAdder();
+	private volatile long handlerTime;
+	private volatile long runTime;
+	private volatile long drainTime;
+
+	public RunSummary() {
+		for (ItemKind kind : ItemKind.values()) {
+			items.put(kind, new LongAdder());
+		}
+	}
+
+	/**
+	 * Calculates the size of a text in UTF-8 encoding without encoding it.
+	 *
+	 * @param text a text
+	 * @return the text size in bytes
+	 */
+	public static long utf8Length(@Nullable CharSequence text) {
+		if (text == null) {
+			return 0;
+		}
+		long result = 0;
+		for (int i = 0, length = text.length(); i < length; i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				result += 1;
+			} else if (c < 0x800) {
+				result += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+				result += 4;
+				i++;
+			} else {
+				result += 3;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Accounts a started item.
+	 *
+	 * @param kind item kind
+	 * @return number of open items
+	 */
+	public long itemStarted(@Nonnull ItemKind kind) {
+		items.get(kind).increment();
+		long open = openItems.incrementAndGet();
+		peakOpenItems.accumulateAndGet(open, Math::max);
+		return open;
+	}
+
+	/**
+	 * Accounts a finished item.
+	 *
+	 * @return number of open items
+	 */
+	public long itemFinished() {
+		return openItems.decrementAndGet();
+	}
+
+	/**
+	 * Accounts a sent text log.
+	 *
+	 * @param bytes log message size in bytes
+	 */
+	public void logSent(long bytes) {
+		logCount.increment();
+		logBytes.add(bytes);
+	}
+
+	/**
+	 * Accounts a sent attachment.
+	 *
+	 * @param bytes attachment size in bytes
+	 */
+	public void attachmentSent(long bytes) {
+		attachmentCount.increment();
+		attachmentBytes.add(bytes);
+	}
+
+	/**
+	 * @param kind item kind
+	 * @return number of started items of the given kind
+	 */
+	public long getItemCount(@Nonnull ItemKind kind) {
+		return items.get(kind).sum();
+	}
+
+	/**
+	 * @return number of items, which were started and not finished yet
+	 */
+	public long getOpenItems() {
+		return openItems.get();
+	}
+
+	/**
+	 * @return maximum number of items, which were started and not finished at the same time
+	 */
+	public long getPeakOpenItems() {
+		return peakOpenItems.get();
+	}
+
+	/**
+	 * @return number of sent text logs
+	 */
+	public long getLogCount() {
+		return logCount.sum();
+	}
+
+	/**
+	 * @return total size of sent text logs in bytes
+	 */
+	public long getLogBytes() {
+		return logBytes.sum();
+	}
+
+	/**
+	 * @return number of sent attachments
+	 */
+	public long getAttachmentCount() {
+		return attachmentCount.sum();
+	}
+
+	/**
+	 * @return total size of sent attachments in bytes, before compression
+	 */
+	public long getAttachmentBytes() {
+		return attachmentBytes.sum();
+	}
+
+	/**
+	 * @return time spent in the agent event handlers
+	 */
+	public long getHandlerTime() {
+		return handlerTime;
+	}
+
+	public void setHandlerTime(long handlerTime) {
+		this.handlerTime = handlerTime;
+	}
+
+	/**
+	 * @return time from the launch start to the launch finish, including the client drain time
+	 */
+	public long getRunTime() {
+		return runTime;
+	}
+
+	public void setRunTime(long runTime) {
+		this.runTime = runTime;
+	}
+
+	/**
+	 * @return time spent on the launch finish waiting for the client to send all pending requests
+	 */
+	public long getDrainTime() {
+		return drainTime;
+	}
+
+	public void setDrainTime(long drainTime) {
+		this.drainTime = drainTime;
+	}
+
+	/**
+	 * Builds a JSON document of the counters.
+	 *
+	 * @return JSON text
+	 */
+	@Nonnull
+	public String toJson() {
+		StringBuilder result = new StringBuilder("{\n  \"items\": {");
+		String separator = "\n";
+		for (ItemKind kind : ItemKind.values()) {
+			result.append(separator).append("    \"").append(kind.name()).append("\": ").append(getItemCount(kind));
+			separator = ",\n";
+		}
+		return result.append("\n  },\n")
+				.append("  \"peakOpenItems\": ").append(getPeakOpenItems()).append(",\n")
+				.append("  \"logs\": {\"count\": ").append(getLogCount())
+				.append(", \"bytes\": ").append(getLogBytes()).append("},\n")
+				.append("  \"attachments\": {\"count\": ").append(getAttachmentCount())
+				.append(", \"bytes\": ").append(getAttachmentBytes()).append("},\n")
+				.append("  \"handlerTimeNanos\": ").append(getHandlerTime()).append(",\n")
+				.append("  \"runTimeNanos\": ").append(getRunTime()).append(",\n")
+				.append("  \"drainTimeNanos\": ").append(getDrainTime()).append("\n}\n")
+				.toString();
+	}
+
+	/**
+	 * Writes the JSON document of the counters into the given file, parent directories are created if necessary.
+	 *
+	 * @param file target file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(@Nonnull Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Files.write(file, toJson().getBytes(StandardCharsets.UTF_8));
+	}
+}
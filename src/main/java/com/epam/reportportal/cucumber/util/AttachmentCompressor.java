@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses text-like attachments into gzip archives before upload.
+ * <p>
+ * Applicable media types are matched either exactly or by a wildcard subtype, e.g. <code>text/*</code>.
+ */
+public class AttachmentCompressor {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentCompressor.class);
+
+	public static final String GZIP_TYPE = "application/gzip";
+	public static final String GZIP_EXTENSION = ".gz";
+	private static final String WILDCARD_SUBTYPE = "/*";
+
+	/**
+	 * Attachment size in bytes, above which the data is compressed. Non-positive value disables compression.
+	 */
+	private final long threshold;
+
+	/**
+	 * Media types which should be compressed.
+	 */
+	private final Set<String> types;
+
+	/**
+	 * Creates a new compressor.
+	 *
+	 * @param threshold attachment size in bytes, above which the data is compressed, non-positive value disables compression
+	 * @param types     media types which should be compressed
+	 */
+	public AttachmentCompressor(long threshold, @Nonnull Collection<String> types) {
+		this.threshold = threshold;
+		this.types = types.stream().map(t -> t.trim().toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+	}
+
+	@Nonnull
+	private static String getBaseType(@Nonnull String mediaType) {
+		int parametersIndex = mediaType.indexOf(';');
+		return (parametersIndex < 0 ? mediaType : mediaType.substring(0, parametersIndex)).trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Checks whether an attachment with the given size and media type should be compressed.
+	 *
+	 * @param size      attachment size in bytes
+	 * @param mediaType attachment media type
+	 * @return true if the attachment should be compressed
+	 */
+	public boolean isApplicable(long size, @Nullable String mediaType) {
+		if (threshold <= 0 || size <= threshold || mediaType == null) {
+			return false;
+		}
+		String baseType = getBaseType(mediaType);
+		if (types.contains(baseType)) {
+			return true;
+		}
+		int subtypeIndex = baseType.indexOf('/');
+		return subtypeIndex > 0 && types.contains(baseType.substring(0, subtypeIndex) + WILDCARD_SUBTYPE);
+	}
+
+	/**
+	 * Compresses the given data with gzip.
+	 *
+	 * @param data attachment data
+	 * @return compressed data or null if compression failed or didn't make the data smaller
+	 */
+	@Nullable
+	public byte[] compress(@Nonnull byte[] data) {
+		ByteArrayOutputStream result = new ByteArrayOutputStream(Math.max(32, data.length / 4));
+		try (GZIPOutputStream gzip = new GZIPOutputStream(result)) {
+			gzip.write(data);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to compress an attachment", e);
+			return null;
+		}
+		return result.size() < data.length ? result.toByteArray() : null;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Launch-scoped cache of already uploaded attachments. Attachments are identified by a 64-bit content fingerprint, which
+ * consists of CRC32C and CRC32 checksums (both are hardware-accelerated), and data length. The content itself is not stored.
+ * <p>
+ * The cache is LRU and bounded by entry count and by estimated memory footprint.
+ */
+public class AttachmentDeduplicator {
+	private static final String REFERENCE_FORMAT = "Same as attachment '%s' [#%s, %d bytes], which was already reported in this launch";
+	private static final String UNNAMED = "unnamed";
+
+	/**
+	 * Estimated memory footprint of a cache entry without attachment name.
+	 */
+	private static final long ENTRY_OVERHEAD = 96;
+
+	private final int maxEntries;
+	private final long maxMemory;
+	private final LinkedHashMap<Fingerprint, String> cache = new LinkedHashMap<>(16, 0.75f, true);
+	private final AtomicLong savedBytes = new AtomicLong();
+	private final AtomicLong savedAttachments = new AtomicLong();
+	private long memory;
+
+	/**
+	 * Creates a new deduplicator.
+	 *
+	 * @param maxEntries maximum number of remembered attachments
+	 * @param maxMemory  maximum estimated memory footprint of the cache in bytes
+	 */
+	public AttachmentDeduplicator(int maxEntries, long maxMemory) {
+		this.maxEntries = maxEntries;
+		this.maxMemory = maxMemory;
+	}
+
+	private static long footprint(@Nonnull String name) {
+		return ENTRY_OVERHEAD + 2L * name.length();
+	}
+
+	/**
+	 * Checks if the same data was already reported in the launch. If not, remembers the data fingerprint.
+	 *
+	 * @param data attachment data
+	 * @param name attachment name
+	 * @return a reference message to log instead of the attachment if it is a duplicate, empty otherwise
+	 */
+	@Nonnull
+	public Optional<String> deduplicate(@Nonnull byte[] data, @Nullable String name) {
+		Fingerprint fingerprint = new Fingerprint(data);
+		String original;
+		synchronized (cache) {
+			original = cache.get(fingerprint);
+			if (original == null) {
+				String attachmentName = ofNullable(name).filter(n -> !n.isEmpty()).orElse(UNNAMED);
+				cache.put(fingerprint, attachmentName);
+				memory += footprint(attachmentName);
+				evict();
+			}
+		}
+		if (original == null) {
+			return Optional.empty();
+		}
+		savedBytes.addAndGet(data.length);
+		savedAttachments.incrementAndGet();
+		return Optional.of(format(REFERENCE_FORMAT, original, fingerprint, data.length));
+	}
+
+	/**
+	 * Removes the data fingerprint, so the next attachment with the same data is not treated as a duplicate. Used when the
+	 * attachment was dropped and not reported.
+	 *
+	 * @param data attachment data
+	 */
+	public void forget(@Nonnull byte[] data) {
+		Fingerprint fingerprint = new Fingerprint(data);
+		synchronized (cache) {
+			ofNullable(cache.remove(fingerprint)).ifPresent(name -> memory -= footprint(name));
+		}
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<Fingerprint, String>> entries = cache.entrySet().iterator();
+		while ((cache.size() > maxEntries || memory > maxMemory) && entries.hasNext()) {
+			Map.Entry<Fingerprint, String> eldest = entries.next();
+			memory -= footprint(eldest.getValue());
+			entries.remove();
+		}
+	}
+
+	/**
+	 * @return total size of attachments which were not uploaded since they were duplicates
+	 */
+	public long getSavedBytes() {
+		return savedBytes.get();
+	}
+
+	/**
+	 * @return number of attachments which were not uploaded since they were duplicates
+	 */
+	public long getSavedAttachments() {
+		return savedAttachments.get();
+	}
+
+	/**
+	 * Content fingerprint of an attachment.
+	 */
+	private static final class Fingerprint {
+		private final long hash;
+		private final int length;
+
+		private Fingerprint(@Nonnull byte[] data) {
+			CRC32C crc32c = new CRC32C();
+			crc32c.update(data, 0, data.length);
+			CRC32 crc32 = new CRC32();
+			crc32.update(data, 0, data.length);
+			hash = crc32c.getValue() << 32 | crc32.getValue();
+			length = data.length;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Fingerprint)) {
+				return false;
+			}
+			Fingerprint that = (Fingerprint) o;
+			return hash == that.hash && length == that.length;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Long.hashCode(hash) + length;
+		}
+
+		@Override
+		public String toString() {
+			return format("%016x", hash);
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves attachment data bigger than the given threshold out of the heap into temporary files, so it is not held in memory
+ * while the attachment log waits for its item to be started. The client uploads attachments from byte arrays, so the data
+ * is read back into memory when the log request is built and stays there until the upload. Each file is removed as soon as
+ * its data is read back, {@link #cleanup()} removes the files which were never read once the launch is finished.
+ */
+public class AttachmentSpooler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentSpooler.class);
+	private static final String TEMP_FILE_PREFIX = "rp-cucumber-attachment-";
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	/**
+	 * Attachment size in bytes, above which the data is moved to a file. Non-positive value disables spooling.
+	 */
+	private final long threshold;
+
+	/**
+	 * Directory for temporary files, null means the default temporary-file directory.
+	 */
+	private final Path directory;
+
+	/**
+	 * Temporary files created by this spooler and not read yet.
+	 */
+	private final Set<Path> files = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Creates a new spooler, which uses the default temporary-file directory.
+	 *
+	 * @param threshold attachment size in bytes, above which the data is moved to a file, non-positive value disables spooling
+	 */
+	public AttachmentSpooler(long threshold) {
+		this(threshold, null);
+	}
+
+	/**
+	 * Creates a new spooler.
+	 *
+	 * @param threshold attachment size in bytes, above which the data is moved to a file, non-positive value disables spooling
+	 * @param directory directory for temporary files, null means the default temporary-file directory
+	 */
+	public AttachmentSpooler(long threshold, @Nullable Path directory) {
+		this.threshold = threshold;
+		this.directory = directory;
+	}
+
+	/**
+	 * Checks whether the spooling is enabled.
+	 *
+	 * @return true if attachments above the threshold are moved to files
+	 */
+	public boolean isEnabled() {
+		return threshold > 0;
+	}
+
+	/**
+	 * Converts attachment data to a {@link Source}. The data is written to a temporary file if its size exceeds the
+	 * threshold, otherwise the source returns the array as is. A file-backed source does not keep the data, it reads the file
+	 * on {@link Source#read()} call and removes it, so it can be read only once.
+	 *
+	 * @param data attachment data
+	 * @return a source of the attachment data
+	 */
+	@Nonnull
+	public Source spool(@Nonnull byte[] data) {
+		if (!isEnabled() || data.length <= threshold) {
+			return () -> data;
+		}
+		try {
+			Path file = directory == null ?
+					Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX) :
+					Files.createTempFile(directory, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+			files.add(file);
+			Files.write(file, data);
+			return () -> read(file);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to spool an attachment to a temporary file, keeping it in memory", e);
+			return () -> data;
+		}
+	}
+
+	@Nonnull
+	private byte[] read(@Nonnull Path file) throws IOException {
+		byte[] data = Files.readAllBytes(file);
+		delete(file);
+		return data;
+	}
+
+	private void delete(@Nonnull Path file) {
+		files.remove(file);
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete temporary attachment file: {}", file, e);
+		}
+	}
+
+	/**
+	 * Removes temporary files which were not read, e.g. attachments of items which were never started. Should be called only
+	 * when all attachments are uploaded.
+	 */
+	public void cleanup() {
+		files.forEach(this::delete);
+	}
+
+	/**
+	 * Source of attachment data.
+	 */
+	@FunctionalInterface
+	public interface Source {
+		/**
+		 * Reads attachment data.
+		 *
+		 * @return attachment data
+		 * @throws IOException if the data can't be read
+		 */
+		@Nonnull
+		byte[] read() throws IOException;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import jakarta.annotation.Nonnull;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Launch-scoped registry of already reported errors. An error is identified by a fingerprint of its exception type and
+ * classes and methods of its top stack frames. Line numbers and file names are not taken into account, so the same failure in
+ * different Scenarios or Steps produces the same fingerprint.
+ * <p>
+ * The registry is LRU and bounded by entry count.
+ */
+public class ErrorFingerprinter {
+	private static final String REFERENCE_FORMAT = "Same error as #%s, which was already reported in this launch: %s";
+
+	/**
+	 * Number of top stack frames taken into account.
+	 */
+	private final int frames;
+
+	/**
+	 * Fingerprints of reported errors mapped to weak references to the first reported throwable, the throwable is compared by
+	 * reference and is not kept from garbage collection.
+	 */
+	private final Map<Long, WeakReference<Throwable>> registry;
+
+	/**
+	 * Creates a new fingerprinter.
+	 *
+	 * @param frames     number of top stack frames taken into account
+	 * @param maxEntries maximum number of remembered fingerprints
+	 */
+	public ErrorFingerprinter(int frames, int maxEntries) {
+		this.frames = frames;
+		registry = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, WeakReference<Throwable>> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Calculates a fingerprint of the given error.
+	 *
+	 * @param error an error
+	 * @return 64-bit fingerprint
+	 */
+	public long fingerprint(@Nonnull Throwable error) {
+		StringBuilder key = new StringBuilder(error.getClass().getName());
+		StackTraceElement[] stackTrace = error.getStackTrace();
+		for (int i = 0; i < Math.min(frames, stackTrace.length); i++) {
+			key.append('\n').append(stackTrace[i].getClassName()).append('.').append(stackTrace[i].getMethodName());
+		}
+		byte[] data = key.toString().getBytes(StandardCharsets.UTF_8);
+		CRC32C crc32c = new CRC32C();
+		crc32c.update(data, 0, data.length);
+		CRC32 crc32 = new CRC32();
+		crc32.update(data, 0, data.length);
+		return crc32c.getValue() << 32 | crc32.getValue();
+	}
+
+	/**
+	 * Returns a fingerprint of the given error as text, which is used to refer to the first reported error from its
+	 * duplicates.
+	 *
+	 * @param error an error
+	 * @return hexadecimal fingerprint
+	 */
+	@Nonnull
+	public String getId(@Nonnull Throwable error) {
+		return toId(fingerprint(error));
+	}
+
+	@Nonnull
+	private static String toId(long fingerprint) {
+		return format("%016x", fingerprint);
+	}
+
+	/**
+	 * Checks if the same error was already reported in the launch. If not, remembers the error fingerprint. The throwable which
+	 * was reported first is not considered as a duplicate of itself, so it can be reported several times, e.g. for a Step and
+	 * for its Scenario.
+	 *
+	 * @param error an error
+	 * @return a reference message to report instead of the stack trace if the error is a duplicate, empty otherwise
+	 */
+	@Nonnull
+	public Optional<String> deduplicate(@Nonnull Throwable error) {
+		long fingerprint = fingerprint(error);
+		WeakReference<Throwable> original;
+		synchronized (registry) {
+			original = registry.putIfAbsent(fingerprint, new WeakReference<>(error));
+		}
+		if (original == null || original.get() == error) {
+			return Optional.empty();
+		}
+		String description = ofNullable(error.getMessage()).map(m -> error.getClass().getName() + ": " + m)
+				.orElseGet(() -> error.getClass().getName());
+		return Optional.of(format(REFERENCE_FORMAT, toId(fingerprint), description));
+	}
+}
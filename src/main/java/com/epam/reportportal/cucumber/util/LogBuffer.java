@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Merges consecutive text logs of a Scenario into a single log entry. Logs are merged while they fit into the time window,
+ * counted from the first log in the buffer, and into the size window.
+ * <p>
+ * The class is not thread-safe, it is supposed to be used by a single Scenario.
+ */
+public class LogBuffer {
+	private static final char SEPARATOR = '\n';
+
+	/**
+	 * Maximum time between the first and the last merged logs.
+	 */
+	private final Duration timeWindow;
+
+	/**
+	 * Maximum length of the merged message in characters.
+	 */
+	private final int sizeWindow;
+
+	private final StringBuilder buffer = new StringBuilder();
+
+	/**
+	 * The time of the first log in the buffer.
+	 */
+	private Instant firstLogTime;
+
+	/**
+	 * Creates a new buffer.
+	 *
+	 * @param timeWindow maximum time between the first and the last merged logs
+	 * @param sizeWindow maximum length of the merged message in characters
+	 */
+	public LogBuffer(@Nonnull Duration timeWindow, int sizeWindow) {
+		this.timeWindow = timeWindow;
+		this.sizeWindow = sizeWindow;
+	}
+
+	/**
+	 * Adds a log message to the buffer. If the message does not fit into the time or the size window, the buffer is flushed
+	 * first.
+	 *
+	 * @param message a text message
+	 * @param logTime the time of the message
+	 * @return the previous buffer content as the first log time and merged message pair, if the buffer was flushed, null
+	 * otherwise
+	 */
+	@Nullable
+	public Pair<Instant, String> append(@Nonnull String message, @Nonnull Instant logTime) {
+		Pair<Instant, String> flushed = null;
+		if (firstLogTime != null && (Duration.between(firstLogTime, logTime).compareTo(timeWindow) > 0
+				|| buffer.length() + 1 + message.length() > sizeWindow)) {
+			flushed = poll();
+		}
+		if (firstLogTime == null) {
+			firstLogTime = logTime;
+		} else {
+			buffer.append(SEPARATOR);
+		}
+		buffer.append(message);
+		return flushed;
+	}
+
+	/**
+	 * Returns the buffer content and clears the buffer.
+	 *
+	 * @return the first log time and merged message pair, or null if the buffer is empty
+	 */
+	@Nullable
+	public Pair<Instant, String> poll() {
+		if (firstLogTime == null) {
+			return null;
+		}
+		Pair<Instant, String> result = Pair.of(firstLogTime, buffer.toString());
+		buffer.setLength(0);
+		firstLogTime = null;
+		return result;
+	}
+}
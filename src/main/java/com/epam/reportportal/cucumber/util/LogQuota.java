@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+/**
+ * Limits the number and the total size of logs and attachments. Each entry is checked separately: an entry which does not fit
+ * into the limits is dropped and only counted, while a smaller entry after it is still accepted if it fits.
+ */
+public class LogQuota {
+	/**
+	 * Maximum number of entries. Non-positive value means no limit.
+	 */
+	private final long maxCount;
+
+	/**
+	 * Maximum total size of entries in bytes. Non-positive value means no limit.
+	 */
+	private final long maxBytes;
+
+	private long count;
+	private long bytes;
+	private long droppedCount;
+	private long droppedBytes;
+
+	/**
+	 * Creates a new quota.
+	 *
+	 * @param maxCount maximum number of entries, non-positive value means no limit
+	 * @param maxBytes maximum total size of entries in bytes, non-positive value means no limit
+	 */
+	public LogQuota(long maxCount, long maxBytes) {
+		this.maxCount = maxCount;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Checks whether any limit is set.
+	 *
+	 * @return true if the quota may drop entries
+	 */
+	public boolean isEnabled() {
+		return maxCount > 0 || maxBytes > 0;
+	}
+
+	/**
+	 * Accounts an entry of the given size.
+	 *
+	 * @param size entry size in bytes
+	 * @return true if the entry fits into the quota and should be sent, false if it should be dropped
+	 */
+	public synchronized boolean tryAcquire(long size) {
+		if ((maxCount <= 0 || count + 1 <= maxCount) && (maxBytes <= 0 || bytes + size <= maxBytes)) {
+			count++;
+			bytes += size;
+			return true;
+		}
+		droppedCount++;
+		droppedBytes += size;
+		return false;
+	}
+
+	/**
+	 * @return number of dropped entries
+	 */
+	public synchronized long getDroppedCount() {
+		return droppedCount;
+	}
+
+	/**
+	 * @return total size of dropped entries in bytes
+	 */
+	public synchronized long getDroppedBytes() {
+		return droppedBytes;
+	}
+}
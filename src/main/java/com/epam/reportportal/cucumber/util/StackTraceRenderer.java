@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Renders stack traces in the same format as {@link Throwable#printStackTrace()}, but with bounded number of frames per
+ * throwable and bounded depth of causes and suppressed exceptions. Frames which are common with the enclosing trace are
+ * collapsed into a single "... n more" line, as JDK does.
+ */
+public class StackTraceRenderer {
+	private static final String CAUSE_CAPTION = "Caused by: ";
+	private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+	private static final String LINE_SEPARATOR = "\n";
+
+	/**
+	 * Maximum number of rendered frames per throwable. Non-positive value means no limit.
+	 */
+	private final int maxFrames;
+
+	/**
+	 * Maximum depth of rendered causes and suppressed exceptions. Negative value means no limit.
+	 */
+	private final int maxCauseDepth;
+
+	/**
+	 * Creates a new renderer.
+	 *
+	 * @param maxFrames     maximum number of rendered frames per throwable, non-positive value means no limit
+	 * @param maxCauseDepth maximum depth of rendered causes and suppressed exceptions, negative value means no limit
+	 */
+	public StackTraceRenderer(int maxFrames, int maxCauseDepth) {
+		this.maxFrames = maxFrames;
+		this.maxCauseDepth = maxCauseDepth;
+	}
+
+	/**
+	 * Checks whether any limit is set.
+	 *
+	 * @return true if the renderer output may differ from {@link Throwable#printStackTrace()} output
+	 */
+	public boolean isBounded() {
+		return maxFrames > 0 || maxCauseDepth >= 0;
+	}
+
+	/**
+	 * Renders a stack trace of the given throwable.
+	 *
+	 * @param error     a throwable to render
+	 * @param enclosing frames of the enclosing trace, common tail frames of the throwable are collapsed, or null to render
+	 *                  all frames
+	 * @return rendered stack trace
+	 */
+	@Nonnull
+	public String render(@Nonnull Throwable error, @Nullable StackTraceElement[] enclosing) {
+		StringBuilder result = new StringBuilder();
+		Set<Throwable> rendered = Collections.newSetFromMap(new IdentityHashMap<>());
+		render(result, error, enclosing == null ? new StackTraceElement[0] : enclosing, "", "", 0, rendered);
+		return result.toString();
+	}
+
+	private void render(@Nonnull StringBuilder result, @Nonnull Throwable error, @Nonnull StackTraceElement[] enclosing,
+			@Nonnull String caption, @Nonnull String prefix, int depth, @Nonnull Set<Throwable> rendered) {
+		if (!rendered.add(error)) {
+			result.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(error).append(']').append(LINE_SEPARATOR);
+			return;
+		}
+		result.append(prefix).append(caption).append(error).append(LINE_SEPARATOR);
+
+		StackTraceElement[] trace = error.getStackTrace();
+		int last = trace.length - 1;
+		int enclosingLast = enclosing.length - 1;
+		while (last >= 0 && enclosingLast >= 0 && trace[last].equals(enclosing[enclosingLast])) {
+			last--;
+			enclosingLast--;
+		}
+		int unique = last + 1;
+		int shown = maxFrames > 0 ? Math.min(unique, maxFrames) : unique;
+		for (int i = 0; i < shown; i++) {
+			result.append(prefix).append("\tat ").append(trace[i]).append(LINE_SEPARATOR);
+		}
+		if (shown < unique) {
+			result.append(prefix).append("\t... ").append(unique - shown).append(" frames truncated").append(LINE_SEPARATOR);
+		}
+		int common = trace.length - unique;
+		if (common > 0) {
+			result.append(prefix).append("\t... ").append(common).append(" more").append(LINE_SEPARATOR);
+		}
+
+		Throwable[] suppressed = error.getSuppressed();
+		Throwable cause = error.getCause();
+		if (maxCauseDepth >= 0 && depth >= maxCauseDepth) {
+			int skipped = suppressed.length + (cause == null ? 0 : 1);
+			if (skipped > 0) {
+				result.append(prefix).append("\t... ").append(skipped).append(" causes truncated").append(LINE_SEPARATOR);
+			}
+			return;
+		}
+		for (Throwable s : suppressed) {
+			render(result, s, trace, SUPPRESSED_CAPTION, prefix + "\t", depth + 1, rendered);
+		}
+		if (cause != null) {
+			render(result, cause, trace, CAUSE_CAPTION, prefix, depth + 1, rendered);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A result of a Step or a Hook execution, which is not reported as a separate item but folded into a Scenario summary.
+ */
+public class StepRecord {
+	/**
+	 * The display name of the Step or the Hook.
+	 */
+	private final String name;
+
+	/**
+	 * The execution status of the Step or the Hook.
+	 */
+	private final ItemStatus status;
+
+	/**
+	 * The execution duration of the Step or the Hook.
+	 */
+	private final Duration duration;
+
+	/**
+	 * Creates a new step record.
+	 *
+	 * @param name     the display name of the Step or the Hook
+	 * @param status   the execution status
+	 * @param duration the execution duration
+	 */
+	public StepRecord(@Nonnull String name, @Nullable ItemStatus status, @Nullable Duration duration) {
+		this.name = name;
+		this.status = status;
+		this.duration = duration;
+	}
+
+	/**
+	 * Gets the display name of the Step or the Hook.
+	 *
+	 * @return the display name
+	 */
+	@Nonnull
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the execution status of the Step or the Hook.
+	 *
+	 * @return the execution status
+	 */
+	@Nullable
+	public ItemStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Gets the execution duration of the Step or the Hook.
+	 *
+	 * @return the execution duration
+	 */
+	@Nullable
+	public Duration getDuration() {
+		return duration;
+	}
+}
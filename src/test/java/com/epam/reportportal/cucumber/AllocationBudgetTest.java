@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.NoOpLaunchReporter;
+import com.epam.reportportal.cucumber.integration.util.FeatureGenerator;
+import com.epam.reportportal.cucumber.integration.util.SyntheticEvents;
+import io.cucumber.core.gherkin.Feature;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures bytes allocated by the reporter per Step, that is per 'beforeStep' and 'afterStep' pair, and fails if the budget
+ * is exceeded. The reporter sends items to a no-op Launch, so only the agent allocations are measured. Budgets can be
+ * overridden with <code>rp.test.allocation.budget.&lt;argument&gt;</code> system properties, e.g.
+ * <code>rp.test.allocation.budget.none=4096</code>. Allocations depend on the JVM and JIT state, so the test runs with
+ * <code>./gradlew performanceTest</code>, not with the default <code>test</code> task.
+ */
+@Tag("performance")
+public class AllocationBudgetTest {
+	private static final String BUDGET_PROPERTY_PREFIX = "rp.test.allocation.budget.";
+	private static final int STEPS = 100;
+	private static final int ARGUMENT_LINES = 20;
+	private static final int WARM_UP_SCENARIOS = 200;
+
+	/**
+	 * Step argument types with default per-Step allocation budgets in bytes. Budgets are about 1.5 times of the measured
+	 * allocations: 2.3 KB without an argument, 6 KB with a DocString and 71 KB with a DataTable, on JDK 17.
+	 */
+	public enum StepArgument {
+		NONE(3584, () -> FeatureGenerator.scenarios(1, STEPS)),
+		DOC_STRING(9 * 1024, () -> FeatureGenerator.docStrings(1, STEPS, ARGUMENT_LINES)),
+		DATA_TABLE(108 * 1024, () -> FeatureGenerator.dataTables(1, STEPS, ARGUMENT_LINES, 3));
+
+		private final long defaultBudget;
+		private final Supplier<String> generator;
+
+		StepArgument(long defaultBudget, Supplier<String> generator) {
+			this.defaultBudget = defaultBudget;
+			this.generator = generator;
+		}
+
+		private long getBudget() {
+			return Long.getLong(BUDGET_PROPERTY_PREFIX + name().toLowerCase(), defaultBudget);
+		}
+	}
+
+	private static com.sun.management.ThreadMXBean threadBean;
+
+	@BeforeAll
+	public static void checkSupport() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Thread allocation measurement is not supported");
+		threadBean = (com.sun.management.ThreadMXBean) bean;
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Thread allocation measurement is not supported");
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	private static long allocatedBytes() {
+		return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	@ParameterizedTest
+	@EnumSource(StepArgument.class)
+	public void verify_step_allocations_fit_into_budget(StepArgument argument) {
+		Feature feature = SyntheticEvents.parseFeature("allocation/" + argument.name() + ".feature", argument.generator.get());
+		List<Object> scenarioEvents = SyntheticEvents.testCaseEvents(SyntheticEvents.testCases(feature).get(0));
+		List<Object> stepEvents = scenarioEvents.subList(1, scenarioEvents.size() - 1);
+
+		NoOpLaunchReporter reporter = new NoOpLaunchReporter();
+		SyntheticEvents events = new SyntheticEvents();
+		reporter.setEventPublisher(events);
+		events.startRun(Collections.singletonList(feature));
+		for (int i = 0; i < WARM_UP_SCENARIOS; i++) {
+			events.publishAll(scenarioEvents);
+		}
+
+		events.publish(scenarioEvents.get(0));
+		long before = allocatedBytes();
+		events.publishAll(stepEvents);
+		long perStep = (allocatedBytes() - before) / STEPS;
+		events.publish(scenarioEvents.get(scenarioEvents.size() - 1));
+		events.finishRun();
+
+		assertThat(
+				String.format("Bytes allocated per Step with %s argument", argument),
+				perStep,
+				lessThanOrEqualTo(argument.getBudget())
+		);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.AttachmentSpooler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AttachmentSpoolerTest {
+
+	private static final byte[] DATA = "A large attachment, which is bigger than the threshold".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	Path tempDir;
+
+	private List<Path> spooledFiles() throws IOException {
+		try (Stream<Path> files = Files.list(tempDir)) {
+			return files.collect(Collectors.toList());
+		}
+	}
+
+	@Test
+	public void verify_spooled_data_is_read_from_file_only_on_demand() throws IOException {
+		AttachmentSpooler spooler = new AttachmentSpooler(10, tempDir);
+		byte[] data = Arrays.copyOf(DATA, DATA.length);
+
+		AttachmentSpooler.Source source = spooler.spool(data);
+
+		// the source does not reference the event array
+		Arrays.fill(data, (byte) 0);
+		List<Path> files = spooledFiles();
+		assertThat(files, hasSize(1));
+		assertThat(Files.readAllBytes(files.get(0)), equalTo(DATA));
+
+		// the data is not materialised on spooling: the source reads the file content at the moment of the call
+		byte[] updated = "Updated content".getBytes(StandardCharsets.UTF_8);
+		Files.write(files.get(0), updated);
+		assertThat(source.read(), equalTo(updated));
+
+		// the file is removed once it is read
+		assertThat(spooledFiles(), empty());
+	}
+
+	@Test
+	public void verify_unread_files_are_removed_on_cleanup() throws IOException {
+		AttachmentSpooler spooler = new AttachmentSpooler(10, tempDir);
+
+		spooler.spool(DATA);
+		spooler.spool(DATA).read();
+		assertThat(spooledFiles(), hasSize(1));
+
+		spooler.cleanup();
+		assertThat(spooledFiles(), empty());
+	}
+
+	@Test
+	public void verify_small_data_is_kept_in_memory() throws IOException {
+		AttachmentSpooler spooler = new AttachmentSpooler(DATA.length, tempDir);
+
+		AttachmentSpooler.Source source = spooler.spool(DATA);
+
+		assertThat(spooledFiles(), empty());
+		assertThat(source.read(), equalTo(DATA));
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.FeatureGenerator;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import io.cucumber.core.cli.Main;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs generated features with Cucumber in many threads against a client which answers with random latency, and checks
+ * that the reported item tree is consistent.
+ */
+public class ConcurrencyStressTest {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrencyStressTest.class);
+
+	private static final String GLUE = "com.epam.reportportal.cucumber.integration.generated";
+	private static final Pattern FEATURE_NAME = Pattern.compile("Feature: .*");
+	private static final Pattern RULE_INDEX = Pattern.compile("Generated rule (\\d+)$");
+
+	private static final int SCENARIO_FEATURES = 4;
+	private static final int RULE_FEATURES = 4;
+	private static final int SCENARIOS = 50;
+	private static final int RULES = 5;
+	private static final int RULE_SCENARIOS = 10;
+	private static final int STEPS = 3;
+	private static final int MAX_LATENCY_MS = 5;
+
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+
+	@TempDir
+	Path featureDirectory;
+
+	@AfterEach
+	public void tearDown() {
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	private static final class ReportedItem {
+		private final String uuid;
+		private final String parentUuid;
+		private final StartTestItemRQ request;
+		private final List<ReportedItem> children = Collections.synchronizedList(new ArrayList<>());
+		private final AtomicInteger finishes = new AtomicInteger();
+		private volatile long finishOrder;
+
+		private ReportedItem(String uuid, @Nullable String parentUuid, StartTestItemRQ request) {
+			this.uuid = uuid;
+			this.parentUuid = parentUuid;
+			this.request = request;
+		}
+	}
+
+	/**
+	 * Records item tree reported to the mocked client and answers with random latency.
+	 */
+	private static final class ItemRecorder {
+		private final Map<String, ReportedItem> items = new ConcurrentHashMap<>();
+		private final List<ReportedItem> roots = Collections.synchronizedList(new ArrayList<>());
+		private final Set<String> unknownItems = ConcurrentHashMap.newKeySet();
+		private final AtomicLong finishCounter = new AtomicLong();
+
+		private static <T> Maybe<T> withLatency(T response) {
+			return Maybe.just(response).delay(ThreadLocalRandom.current().nextInt(MAX_LATENCY_MS + 1), TimeUnit.MILLISECONDS);
+		}
+
+		private Maybe<ItemCreatedRS> start(@Nullable String parentUuid, StartTestItemRQ rq) {
+			// IDs based on time and a small random number collide at this rate of requests
+			String uuid = UUID.randomUUID().toString();
+			ReportedItem item = new ReportedItem(uuid, parentUuid, rq);
+			items.put(uuid, item);
+			if (parentUuid == null) {
+				roots.add(item);
+			} else {
+				ReportedItem parent = items.get(parentUuid);
+				if (parent == null) {
+					unknownItems.add(parentUuid);
+				} else {
+					parent.children.add(item);
+				}
+			}
+			return withLatency(new ItemCreatedRS(uuid, uuid));
+		}
+
+		private Maybe<OperationCompletionRS> finish(String uuid) {
+			ReportedItem item = items.get(uuid);
+			if (item == null) {
+				unknownItems.add(uuid);
+			} else {
+				item.finishOrder = finishCounter.incrementAndGet();
+				item.finishes.incrementAndGet();
+			}
+			return withLatency(new OperationCompletionRS());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ItemRecorder mockClient(ReportPortalClient client, String launchUuid) {
+		ItemRecorder recorder = new ItemRecorder();
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(launchUuid, 1L)));
+		when(client.startTestItem(any())).thenAnswer(invocation -> recorder.start(null, invocation.getArgument(0)));
+		when(client.startTestItem(anyString(), any())).thenAnswer(invocation -> recorder.start(
+				invocation.getArgument(0),
+				invocation.getArgument(1)
+		));
+		when(client.finishTestItem(anyString(), any())).thenAnswer(invocation -> recorder.finish(invocation.getArgument(0)));
+		when(client.finishLaunch(eq(launchUuid), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		TestUtils.mockLogging(client);
+		return recorder;
+	}
+
+	private void writeFeature(String fileName, String featureName, String source) throws IOException {
+		String named = FEATURE_NAME.matcher(source).replaceFirst(Matcher.quoteReplacement("Feature: " + featureName));
+		Files.write(featureDirectory.resolve(fileName), named.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void verifyFinishedAfterChildren(ReportedItem item) {
+		assertThat("Item finished exactly once: " + item.request.getName(), item.finishes.get(), equalTo(1));
+		item.children.forEach(child -> {
+			assertThat(child.parentUuid, equalTo(item.uuid));
+			assertThat("Child finished before its parent: " + child.request.getName(), child.finishOrder, lessThan(item.finishOrder));
+			verifyFinishedAfterChildren(child);
+		});
+	}
+
+	private static void verifyScenario(ReportedItem scenario, String namePrefix, int steps) {
+		assertThat(scenario.request.getName(), startsWith(namePrefix));
+		assertThat(scenario.children, hasSize(steps));
+		scenario.children.forEach(step -> {
+			assertThat(step.request.getName(), containsString("generated step"));
+			assertThat(step.children, empty());
+		});
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 32, 64 })
+	public void verify_item_tree_is_consistent_under_parallel_execution(int threads) throws IOException {
+		for (int i = 0; i < SCENARIO_FEATURES; i++) {
+			writeFeature("scenarios-" + i + ".feature", "Scenarios " + i, FeatureGenerator.scenarios(SCENARIOS, STEPS));
+		}
+		for (int i = 0; i < RULE_FEATURES; i++) {
+			writeFeature("rules-" + i + ".feature", "Rules " + i, FeatureGenerator.rules(RULES, RULE_SCENARIOS, STEPS));
+		}
+
+		ReportPortalClient client = mock(ReportPortalClient.class, withSettings().stubOnly());
+		ItemRecorder recorder = mockClient(client, CommonUtils.namedId("launch_"));
+		TestScenarioReporter.RP.set(ReportPortal.create(client, TestUtils.standardParameters(), executorService));
+
+		long start = System.nanoTime();
+		byte status = Main.run(
+				new String[] { "--threads", String.valueOf(threads), "--glue", GLUE, "--plugin", TestScenarioReporter.class.getName(),
+						"--monochrome", featureDirectory.toString() }, Thread.currentThread().getContextClassLoader()
+		);
+		long time = System.nanoTime() - start;
+		assertThat(status, equalTo((byte) 0));
+
+		int scenarioCount = SCENARIO_FEATURES * SCENARIOS + RULE_FEATURES * RULES * RULE_SCENARIOS;
+		LOGGER.info(
+				"{} threads: {} scenarios in {} ms, {} scenarios/s",
+				threads,
+				scenarioCount,
+				TimeUnit.NANOSECONDS.toMillis(time),
+				String.format("%.1f", scenarioCount * 1e9 / time)
+		);
+
+		assertThat("Items with unknown parents or finishes of unknown items", recorder.unknownItems, empty());
+		assertThat(recorder.items.values().stream().filter(i -> i.finishes.get() != 1).map(i -> i.request.getName())
+				.collect(Collectors.toList()), empty());
+
+		Map<String, ReportedItem> features = recorder.roots.stream()
+				.collect(Collectors.toMap(i -> i.request.getName(), i -> i));
+		assertThat(features.keySet(), hasSize(SCENARIO_FEATURES + RULE_FEATURES));
+		for (int i = 0; i < SCENARIO_FEATURES; i++) {
+			ReportedItem feature = features.get("Feature: Scenarios " + i);
+			assertThat(feature, notNullValue());
+			assertThat(feature.request.getType(), equalTo("STORY"));
+			assertThat(feature.children, hasSize(SCENARIOS));
+			feature.children.forEach(scenario -> verifyScenario(scenario, "Scenario: Generated scenario ", STEPS));
+			verifyFinishedAfterChildren(feature);
+		}
+		for (int i = 0; i < RULE_FEATURES; i++) {
+			ReportedItem feature = features.get("Feature: Rules " + i);
+			assertThat(feature, notNullValue());
+			assertThat(feature.children, hasSize(RULES));
+			Set<String> ruleNames = new HashSet<>();
+			feature.children.forEach(rule -> {
+				assertThat(rule.request.getType(), equalTo("SUITE"));
+				assertThat("Rule started once: " + rule.request.getName(), ruleNames.add(rule.request.getName()), equalTo(true));
+				Matcher ruleIndex = RULE_INDEX.matcher(rule.request.getName());
+				assertThat(ruleIndex.find(), equalTo(true));
+				assertThat(rule.children, hasSize(RULE_SCENARIOS));
+				// Background Step is reported as a part of each Scenario
+				rule.children.forEach(scenario -> verifyScenario(
+						scenario,
+						"Scenario: Generated scenario " + ruleIndex.group(1) + "-",
+						STEPS + 1
+				));
+			});
+			verifyFinishedAfterChildren(feature);
+		}
+	}
+}
@@ -30,10 +30,14 @@ import io.cucumber.testng.CucumberOptions;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import org.apache.commons.lang3.tuple.Pair;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -116,6 +120,11 @@ public class EmbeddingTest {
 		TestScenarioReporter.RP.set(reportPortal);
 	}
 
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+	}
+
 	private static List<SaveLogRQ> getLogsWithFiles(ArgumentCaptor<List<MultipartBody.Part>> logCaptor) {
 		return filterLogs(logCaptor, l -> Objects.nonNull(l.getFile()));
 	}
@@ -166,6 +175,38 @@ public class EmbeddingTest {
 		assertThat(types, containsInAnyOrder("text/plain", "image/png", "text/plain"));
 	}
 
+	@Test
+	public void verify_compressed_text_embedding() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setAttachmentCompressionThreshold(1);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(TextTest.class);
+		CommonUtils.shutdownExecutorService(executorService); // Ensure everything is finished
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(10000).times(4)).log(logCaptor.capture());
+		List<SaveLogRQ> logs = getLogsWithFiles(logCaptor);
+
+		List<String> types = logs.stream()
+				.flatMap(l -> getLogFiles(l.getFile().getName(), logCaptor).stream())
+				.flatMap(f -> ofNullable(f.body().contentType()).map(MediaType::toString).stream())
+				.collect(Collectors.toList());
+
+		assertThat(types, hasSize(3));
+		assertThat(types, containsInAnyOrder("application/gzip", "image/png", "application/gzip"));
+
+		List<String> messages = logs.stream().map(SaveLogRQ::getMessage).collect(Collectors.toList());
+		assertThat(
+				messages,
+				containsInAnyOrder(
+						Matchers.startsWith("ignored [compressed, original type: text/plain"),
+						equalTo("ignored"),
+						Matchers.startsWith("ignored [compressed, original type: text/plain")
+				)
+		);
+	}
+
 	@Test
 	public void verify_pfd_embedding() {
 		TestUtils.runTests(PdfTest.class);
@@ -185,6 +226,82 @@ public class EmbeddingTest {
 		assertThat(types, containsInAnyOrder("application/pdf", "image/png", "application/pdf"));
 	}
 
+	@Test
+	public void verify_spilled_to_disk_pfd_embedding() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setAttachmentSpillThreshold(1);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(PdfTest.class);
+		CommonUtils.shutdownExecutorService(executorService); // Ensure everything is finished
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(10000).times(4)).log(logCaptor.capture());
+		List<SaveLogRQ> logs = getLogsWithFiles(logCaptor);
+
+		assertThat(logs, hasSize(3));
+
+		List<MultipartBody.Part> files = logs.stream()
+				.flatMap(l -> getLogFiles(l.getFile().getName(), logCaptor).stream())
+				.collect(Collectors.toList());
+		assertThat(files, hasSize(3));
+		long pdfSize = new File("src/test/resources/files/test.pdf").length();
+		files.forEach(f -> {
+			try {
+				assertThat(f.body().contentLength(), equalTo(pdfSize));
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		List<String> types = files.stream()
+				.flatMap(f -> ofNullable(f.body().contentType()).map(MediaType::toString).stream())
+				.collect(Collectors.toList());
+		assertThat(types, containsInAnyOrder("application/pdf", "image/png", "application/pdf"));
+	}
+
+	@Test
+	public void verify_deduplicated_pfd_embedding() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setAttachmentDeduplication(true);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(PdfTest.class);
+		CommonUtils.shutdownExecutorService(executorService); // Ensure everything is finished
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(10000).atLeast(3)).log(logCaptor.capture());
+		List<SaveLogRQ> logs = getLogsWithFiles(logCaptor);
+		assertThat(logs, hasSize(1));
+
+		List<SaveLogRQ> references = filterLogs(
+				logCaptor,
+				l -> l.getMessage() != null && l.getMessage().startsWith("Same as attachment 'ignored'")
+		);
+		assertThat(references, hasSize(2));
+		references.forEach(l -> assertThat(l.getFile(), nullValue()));
+	}
+
+	@Test
+	public void verify_deduplicated_embedding_is_charged_by_reference_size() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setAttachmentDeduplication(true);
+		parameters.setLaunchLogQuotaBytes(new File("src/test/resources/files/test.pdf").length() + 1024);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(PdfTest.class);
+		CommonUtils.shutdownExecutorService(executorService); // Ensure everything is finished
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(10000).atLeast(3)).log(logCaptor.capture());
+		assertThat(getLogsWithFiles(logCaptor), hasSize(1));
+		List<SaveLogRQ> references = filterLogs(
+				logCaptor,
+				l -> l.getMessage() != null && l.getMessage().startsWith("Same as attachment 'ignored'")
+		);
+		assertThat(references, hasSize(2));
+		assertThat(filterLogs(logCaptor, l -> l.getMessage() != null && l.getMessage().startsWith("Log quota")), empty());
+	}
+
 	@Test
 	public void verify_archive_embedding() {
 		TestUtils.runTests(ZipTest.class);
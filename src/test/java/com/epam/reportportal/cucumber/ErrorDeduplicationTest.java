@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.feature.FailedSteps;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.hamcrest.Matchers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterLogs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class ErrorDeduplicationTest {
+	private static final String EXPECTED_ERROR = "java.lang.IllegalStateException: " + FailedSteps.ERROR_MESSAGE;
+	private static final String REFERENCE_PREFIX = "Same error as #";
+
+	@CucumberOptions(features = "src/test/resources/features/TwoFailedScenarios.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class TwoFailedScenariosReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final List<String> scenarioIds = Arrays.asList(CommonUtils.namedId("scenario_"), CommonUtils.namedId("scenario_"));
+	private final List<String> stepIds = Arrays.asList(CommonUtils.namedId("step_"), CommonUtils.namedId("step_"));
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(
+				client,
+				launchId,
+				suiteId,
+				Arrays.asList(
+						Pair.of(scenarioIds.get(0), Collections.singletonList(stepIds.get(0))),
+						Pair.of(scenarioIds.get(1), Collections.singletonList(stepIds.get(1)))
+				)
+		);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<SaveLogRQ> getLogs() {
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(1000).atLeastOnce()).log(logCaptor.capture());
+		return filterLogs(logCaptor, l -> l.getMessage() != null);
+	}
+
+	private FinishTestItemRQ getScenarioFinish(String scenarioId) {
+		ArgumentCaptor<FinishTestItemRQ> captor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client).finishTestItem(same(scenarioId), captor.capture());
+		return captor.getValue();
+	}
+
+	@Test
+	public void verify_same_errors_are_reported_in_full_by_default() {
+		TestUtils.runTests(TwoFailedScenariosReporterTest.class);
+
+		List<SaveLogRQ> logs = getLogs();
+		assertThat(logs.stream().filter(l -> l.getMessage().startsWith(EXPECTED_ERROR)).count(), equalTo(2L));
+		assertThat(logs.stream().filter(l -> l.getMessage().startsWith(REFERENCE_PREFIX)).count(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_same_errors_are_reported_once_per_launch() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setErrorDeduplication(true);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(TwoFailedScenariosReporterTest.class);
+
+		List<SaveLogRQ> logs = getLogs();
+		List<SaveLogRQ> stackTraces = logs.stream().filter(l -> l.getMessage().startsWith(EXPECTED_ERROR)).collect(Collectors.toList());
+		assertThat(stackTraces, hasSize(1));
+		assertThat(stackTraces.get(0).getItemUuid(), equalTo(stepIds.get(0)));
+
+		List<SaveLogRQ> references = logs.stream().filter(l -> l.getMessage().startsWith(REFERENCE_PREFIX)).collect(Collectors.toList());
+		assertThat(references, hasSize(1));
+		SaveLogRQ reference = references.get(0);
+		assertThat(reference.getItemUuid(), equalTo(stepIds.get(1)));
+		assertThat(reference.getLevel(), equalTo(LogLevel.ERROR.name()));
+		assertThat(reference.getMessage(), Matchers.endsWith(EXPECTED_ERROR));
+
+		// the first reported error is marked with the fingerprint which the reference points to
+		String fingerprint = reference.getMessage().substring(REFERENCE_PREFIX.length(), REFERENCE_PREFIX.length() + 16);
+		String firstDescription = getScenarioFinish(scenarioIds.get(0)).getDescription();
+		assertThat(firstDescription, containsString("Error #" + fingerprint + ":\n" + EXPECTED_ERROR + "\n\tat "));
+		String secondDescription = getScenarioFinish(scenarioIds.get(1)).getDescription();
+		assertThat(secondDescription, containsString(REFERENCE_PREFIX));
+		assertThat(secondDescription, not(containsString("\tat ")));
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.ErrorFingerprinter;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ErrorFingerprinterTest {
+
+	private static IllegalStateException error(String message) {
+		return new IllegalStateException(message);
+	}
+
+	@Test
+	public void verify_duplicates_are_detected_by_throwable_reference() {
+		ErrorFingerprinter fingerprinter = new ErrorFingerprinter(10, 100);
+		IllegalStateException first = error("first");
+		IllegalStateException second = error("second");
+		assertThat(fingerprinter.fingerprint(first), equalTo(fingerprinter.fingerprint(second)));
+
+		assertThat(fingerprinter.deduplicate(first).isPresent(), equalTo(false));
+		assertThat(fingerprinter.deduplicate(first).isPresent(), equalTo(false));
+		assertThat(fingerprinter.deduplicate(second).isPresent(), equalTo(true));
+		assertThat(fingerprinter.deduplicate(first).isPresent(), equalTo(false));
+	}
+
+	@Test
+	public void verify_distinct_throwables_are_duplicates_regardless_of_their_number() {
+		ErrorFingerprinter fingerprinter = new ErrorFingerprinter(10, 100);
+		IllegalStateException first = error("first");
+		assertThat(fingerprinter.deduplicate(first).isPresent(), equalTo(false));
+
+		// identity hash codes are not unique among many live objects, references are
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(fingerprinter.deduplicate(error("error " + i)).isPresent(), equalTo(true));
+		}
+	}
+}
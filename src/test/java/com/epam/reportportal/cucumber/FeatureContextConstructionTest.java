@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.NoOpLaunchReporter;
+import com.epam.reportportal.cucumber.integration.util.FeatureGenerator;
+import com.epam.reportportal.cucumber.integration.util.SyntheticEvents;
+import com.epam.reportportal.cucumber.metrics.ItemKind;
+import io.cucumber.core.gherkin.Feature;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class FeatureContextConstructionTest {
+	private static final int SCENARIOS = 3;
+
+	private final List<Feature> features = Arrays.asList(
+			SyntheticEvents.parseFeature("construction/first.feature", FeatureGenerator.scenarios(SCENARIOS, 2)),
+			SyntheticEvents.parseFeature("construction/second.feature", FeatureGenerator.rules(1, SCENARIOS, 2))
+	);
+
+	private final CountDownLatch indexingAllowed = new CountDownLatch(1);
+	private final AtomicInteger builtContexts = new AtomicInteger();
+
+	private final NoOpLaunchReporter reporter = new NoOpLaunchReporter() {
+		@Override
+		@Nonnull
+		protected FeatureContext buildFeatureContext(@Nonnull Feature feature) {
+			try {
+				indexingAllowed.await(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			builtContexts.incrementAndGet();
+			return super.buildFeatureContext(feature);
+		}
+	};
+
+	@Test
+	public void verify_source_parsed_handler_does_not_wait_for_feature_contexts() {
+		SyntheticEvents events = new SyntheticEvents();
+		reporter.setEventPublisher(events);
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> events.startRun(features));
+		assertThat(builtContexts.get(), equalTo(0));
+
+		indexingAllowed.countDown();
+		features.forEach(feature -> SyntheticEvents.testCases(feature).forEach(events::runTestCase));
+		events.finishRun();
+
+		assertThat(builtContexts.get(), equalTo(features.size()));
+		assertThat(reporter.getRunSummary().getItemCount(ItemKind.FEATURE), equalTo((long) features.size()));
+		assertThat(reporter.getRunSummary().getItemCount(ItemKind.RULE), equalTo(1L));
+		assertThat(reporter.getRunSummary().getItemCount(ItemKind.SCENARIO), equalTo(SCENARIOS * 2L));
+	}
+
+	@Test
+	public void verify_feature_contexts_are_built_only_for_running_features() {
+		indexingAllowed.countDown();
+		SyntheticEvents events = new SyntheticEvents();
+		reporter.setEventPublisher(events);
+		events.startRun(features);
+
+		SyntheticEvents.testCases(features.get(1)).forEach(events::runTestCase);
+		events.finishRun();
+
+		assertThat(builtContexts.get(), equalTo(1));
+		assertThat(reporter.getRunSummary().getItemCount(ItemKind.FEATURE), equalTo(1L));
+		assertThat(reporter.getRunSummary().getItemCount(ItemKind.SCENARIO), equalTo((long) SCENARIOS));
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.metrics.HandlerLatency;
+import com.epam.reportportal.cucumber.metrics.HandlerMetrics;
+import com.epam.reportportal.cucumber.metrics.HandlerType;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+public class HandlerMetricsTest {
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.hooks.step.one" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class StepHooksReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = List.of(CommonUtils.namedId("step_"));
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, scenarioId, stepIds);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	@Test
+	public void verify_handler_latencies_are_not_collected_by_default() {
+		TestUtils.runTests(StepHooksReporterTest.class);
+
+		HandlerMetrics metrics = ScenarioReporter.getCurrent().getHandlerMetrics();
+		for (HandlerType type : HandlerType.values()) {
+			assertThat(metrics.getSnapshot(type).getCount(), equalTo(0L));
+		}
+	}
+
+	@Test
+	public void verify_handler_latencies_are_collected() throws Exception {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setMetricsEnabled(true);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(StepHooksReporterTest.class);
+
+		HandlerMetrics metrics = ScenarioReporter.getCurrent().getHandlerMetrics();
+		Map<String, HandlerLatency> latencies = metrics.getHandlerLatencies();
+		assertThat(latencies.get(HandlerType.TEST_CASE_STARTED.name()).getCount(), equalTo(1L));
+		assertThat(latencies.get(HandlerType.TEST_CASE_FINISHED.name()).getCount(), equalTo(1L));
+		// two steps, 'Before step' and 'After step' hooks around each
+		assertThat(latencies.get(HandlerType.TEST_STEP_STARTED.name()).getCount(), equalTo(6L));
+		assertThat(latencies.get(HandlerType.TEST_STEP_FINISHED.name()).getCount(), equalTo(6L));
+
+		HandlerLatency stepFinished = latencies.get(HandlerType.TEST_STEP_FINISHED.name());
+		assertThat(stepFinished.getMax(), greaterThan(0L));
+		assertThat(stepFinished.getP50(), lessThanOrEqualTo(stepFinished.getP99()));
+		assertThat(stepFinished.getP99(), lessThanOrEqualTo(stepFinished.getMax()));
+		assertThat(metrics.getTotalHandlerTime(), greaterThanOrEqualTo(stepFinished.getTotal()));
+		assertThat(metrics.getSummary(), containsString(HandlerType.TEST_STEP_FINISHED.name() + " count=6"));
+
+		assertThat(
+				ManagementFactory.getPlatformMBeanServer().queryNames(new ObjectName("com.epam.reportportal.cucumber:type=HandlerMetrics,*"), null),
+				empty()
+		);
+	}
+}
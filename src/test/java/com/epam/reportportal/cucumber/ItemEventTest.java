@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.metrics.ItemEvent;
+import com.epam.reportportal.cucumber.metrics.ItemEventTimer;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+public class ItemEventTest {
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.hooks.step.one" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class StepHooksReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = List.of(CommonUtils.namedId("step_"));
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, scenarioId, stepIds);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	private List<RecordedEvent> record(boolean enabled) throws Exception {
+		Path dump = tempDir.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			if (enabled) {
+				recording.enable(ItemEvent.NAME).withoutThreshold();
+			}
+			recording.start();
+			TestUtils.runTests(StepHooksReporterTest.class);
+			recording.stop();
+			recording.dump(dump);
+		}
+		return RecordingFile.readAllEvents(dump)
+				.stream()
+				.filter(e -> ItemEvent.NAME.equals(e.getEventType().getName()))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_item_events_are_not_recorded_by_default() throws Exception {
+		assertThat(record(false), empty());
+	}
+
+	@Test
+	public void verify_item_events_are_recorded() throws Exception {
+		List<RecordedEvent> events = record(true);
+
+		Map<String, Long> counts = events.stream()
+				.collect(Collectors.groupingBy(e -> e.getString("itemType") + " " + e.getString("action"), Collectors.counting()));
+		assertThat(counts.get("FEATURE START"), equalTo(1L));
+		assertThat(counts.get("FEATURE FINISH"), equalTo(1L));
+		assertThat(counts.get("SCENARIO START"), equalTo(1L));
+		assertThat(counts.get("SCENARIO FINISH"), equalTo(1L));
+		assertThat(counts.get("STEP START"), equalTo(2L));
+		assertThat(counts.get("STEP FINISH"), equalTo(2L));
+		// 'Before step' and 'After step' hooks around each step
+		assertThat(counts.get("HOOK START"), equalTo(4L));
+		assertThat(counts.get("HOOK FINISH"), equalTo(4L));
+		assertThat(counts, not(hasKey("RULE START")));
+
+		events.forEach(e -> assertThat(e.getString("uri"), endsWith("DummyScenario.feature")));
+		events.stream().filter(e -> !"HOOK".equals(e.getString("itemType"))).forEach(e -> {
+			assertThat(e.getInt("line"), greaterThan(0));
+			assertThat(e.getString("codeLocation"), nullValue());
+		});
+		events.stream().filter(e -> "HOOK".equals(e.getString("itemType"))).forEach(e -> {
+			assertThat(e.getInt("line"), equalTo(0));
+			assertThat(e.getString("codeLocation"), containsString("integration.hooks.step.one"));
+		});
+	}
+
+	@Test
+	public void verify_disabled_item_event_timer_is_shared() {
+		assertThat(ItemEventTimer.start(), sameInstance(ItemEventTimer.start()));
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.launch.lock.LaunchIdLockMode;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+public class LaunchSharedDirTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final Logger reporterLogger = (Logger) LoggerFactory.getLogger(ScenarioReporter.class);
+	private final ListAppender<ILoggingEvent> logAppender = new ListAppender<>();
+
+	@BeforeEach
+	public void setUp() {
+		logAppender.start();
+		reporterLogger.addAppender(logAppender);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		reporterLogger.detachAppender(logAppender);
+	}
+
+	private List<String> warnings() {
+		return logAppender.list.stream()
+				.filter(e -> e.getLevel() == Level.WARN)
+				.map(ILoggingEvent::getFormattedMessage)
+				.collect(Collectors.toList());
+	}
+
+	private static ListenerParameters reporterClientParameters(@Nonnull ListenerParameters listenerParameters,
+			@Nonnull ReporterParameters reporterParameters) {
+		AtomicReference<ListenerParameters> configured = new AtomicReference<>();
+		new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				configureSharedLaunch(listenerParameters);
+				configured.set(listenerParameters);
+				return mock(ReportPortal.class);
+			}
+
+			@Override
+			@Nonnull
+			protected ReporterParameters buildReporterParameters() {
+				return reporterParameters;
+			}
+		};
+		return configured.get();
+	}
+
+	@Test
+	public void verify_shared_dir_turns_on_client_join_with_files_in_the_dir() {
+		Path sharedDir = tempDir.resolve("shared").resolve("launch");
+		ListenerParameters listenerParameters = new ListenerParameters();
+		listenerParameters.setClientJoin(false);
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setLaunchSharedDir(sharedDir.toString());
+
+		ListenerParameters result = reporterClientParameters(listenerParameters, reporterParameters);
+
+		assertThat(Files.isDirectory(sharedDir), equalTo(true));
+		assertThat(result.getClientJoin(), equalTo(true));
+		assertThat(result.getLockFileName(), equalTo(sharedDir.resolve(ScenarioReporter.SHARED_LAUNCH_LOCK_FILE).toString()));
+		assertThat(result.getSyncFileName(), equalTo(sharedDir.resolve(ScenarioReporter.SHARED_LAUNCH_SYNC_FILE).toString()));
+		assertThat(warnings(), empty());
+	}
+
+	@Test
+	public void verify_shared_dir_is_not_used_in_socket_join_mode() {
+		ListenerParameters listenerParameters = new ListenerParameters();
+		listenerParameters.setClientJoin(false);
+		listenerParameters.setClientJoinMode(LaunchIdLockMode.SOCKET);
+		listenerParameters.setLockFileName("my.lock");
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setLaunchSharedDir(tempDir.resolve("shared").toString());
+
+		ListenerParameters result = reporterClientParameters(listenerParameters, reporterParameters);
+
+		assertThat(result.getClientJoin(), equalTo(false));
+		assertThat(result.getLockFileName(), equalTo("my.lock"));
+		assertThat(warnings(), contains(containsString("client join mode")));
+	}
+
+	@Test
+	public void verify_warning_if_overridden_report_portal_ignores_shared_dir() {
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setLaunchSharedDir(tempDir.resolve("shared").toString());
+
+		new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				return mock(ReportPortal.class);
+			}
+
+			@Override
+			@Nonnull
+			protected ReporterParameters buildReporterParameters() {
+				return reporterParameters;
+			}
+		};
+
+		assertThat(warnings(), contains(containsString("configureSharedLaunch()")));
+	}
+
+	@Test
+	public void verify_client_join_settings_are_kept_without_shared_dir() {
+		ListenerParameters listenerParameters = new ListenerParameters();
+		listenerParameters.setClientJoin(false);
+		listenerParameters.setLockFileName("my.lock");
+		listenerParameters.setSyncFileName("my.sync");
+
+		ListenerParameters result = reporterClientParameters(listenerParameters, new ReporterParameters());
+
+		assertThat(result.getClientJoin(), equalTo(false));
+		assertThat(result.getLockFileName(), equalTo("my.lock"));
+		assertThat(result.getSyncFileName(), equalTo("my.sync"));
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.log.LogStepdefs;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterLogs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class LogAggregationTest {
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.log" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class WriteLogReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, scenarioId, stepIds);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<SaveLogRQ> getLogs(String prefix) {
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(1000).atLeastOnce()).log(logCaptor.capture());
+		return filterLogs(logCaptor, l -> l.getMessage() != null && l.getMessage().startsWith(prefix));
+	}
+
+	@Test
+	public void verify_write_events_are_sent_separately_by_default() {
+		TestUtils.runTests(WriteLogReporterTest.class);
+
+		List<SaveLogRQ> logs = getLogs(LogStepdefs.FIRST_STEP_LOG);
+		assertThat(logs, hasSize(LogStepdefs.LOGS_PER_STEP));
+	}
+
+	@Test
+	public void verify_write_events_are_merged_per_step() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setLogAggregation(true);
+		parameters.setLogAggregationTimeWindow(60_000);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(WriteLogReporterTest.class);
+
+		List<SaveLogRQ> firstStepLogs = getLogs(LogStepdefs.FIRST_STEP_LOG);
+		assertThat(firstStepLogs, hasSize(1));
+		assertThat(
+				firstStepLogs.get(0).getMessage(),
+				equalTo(IntStream.range(0, LogStepdefs.LOGS_PER_STEP)
+						.mapToObj(i -> LogStepdefs.FIRST_STEP_LOG + i)
+						.collect(Collectors.joining("\n")))
+		);
+
+		List<SaveLogRQ> secondStepLogs = getLogs(LogStepdefs.SECOND_STEP_LOG);
+		assertThat(secondStepLogs, hasSize(1));
+		assertThat(secondStepLogs.get(0).getItemUuid(), not(equalTo(firstStepLogs.get(0).getItemUuid())));
+	}
+
+	@Test
+	public void verify_write_events_are_split_by_size_window() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setLogAggregation(true);
+		parameters.setLogAggregationTimeWindow(60_000);
+		parameters.setLogAggregationSizeWindow(LogStepdefs.FIRST_STEP_LOG.length() * 2 + 3);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(WriteLogReporterTest.class);
+
+		List<SaveLogRQ> firstStepLogs = getLogs(LogStepdefs.FIRST_STEP_LOG);
+		assertThat(firstStepLogs, hasSize(2));
+		assertThat(firstStepLogs.get(0).getMessage(), equalTo(LogStepdefs.FIRST_STEP_LOG + 0 + "\n" + LogStepdefs.FIRST_STEP_LOG + 1));
+		assertThat(firstStepLogs.get(1).getMessage(), equalTo(LogStepdefs.FIRST_STEP_LOG + 2));
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.log.LogStepdefs;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.util.LogQuota;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterLogs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class LogQuotaTest {
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.log" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class WriteLogReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@CucumberOptions(features = "src/test/resources/features/NonAsciiLogScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.log" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class NonAsciiLogReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, scenarioId, stepIds);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<SaveLogRQ> getLogs(String prefix) {
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(1000).atLeastOnce()).log(logCaptor.capture());
+		return filterLogs(logCaptor, l -> l.getMessage() != null && l.getMessage().startsWith(prefix));
+	}
+
+	@Test
+	public void verify_scenario_logs_are_dropped_after_scenario_quota_exceeded() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setScenarioLogQuotaCount(LogStepdefs.LOGS_PER_STEP + 1);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(WriteLogReporterTest.class);
+
+		assertThat(getLogs(LogStepdefs.FIRST_STEP_LOG), hasSize(LogStepdefs.LOGS_PER_STEP));
+		List<SaveLogRQ> secondStepLogs = getLogs(LogStepdefs.SECOND_STEP_LOG);
+		assertThat(secondStepLogs, hasSize(1));
+		assertThat(secondStepLogs.get(0).getMessage(), equalTo(LogStepdefs.SECOND_STEP_LOG + 0));
+
+		List<SaveLogRQ> summaries = getLogs("Log quota of the scenario was exceeded");
+		assertThat(summaries, hasSize(1));
+		SaveLogRQ summary = summaries.get(0);
+		assertThat(summary.getItemUuid(), equalTo(scenarioId));
+		assertThat(summary.getLevel(), equalTo(LogLevel.WARN.name()));
+		assertThat(summary.getMessage(), containsString(": " + (LogStepdefs.LOGS_PER_STEP - 1) + " logs and attachments ("));
+	}
+
+	@Test
+	public void verify_scenario_logs_are_dropped_after_launch_quota_exceeded() {
+		int maxBytes = (LogStepdefs.FIRST_STEP_LOG.length() + 1) * 2;
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setLaunchLogQuotaBytes(maxBytes);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(WriteLogReporterTest.class);
+
+		assertThat(getLogs(LogStepdefs.FIRST_STEP_LOG), hasSize(2));
+		assertThat(getLogs(LogStepdefs.SECOND_STEP_LOG), empty());
+
+		List<SaveLogRQ> summaries = getLogs("Log quota of the launch was exceeded");
+		assertThat(summaries, hasSize(1));
+		SaveLogRQ summary = summaries.get(0);
+		assertThat(summary.getItemUuid(), nullValue());
+		assertThat(summary.getLaunchUuid(), equalTo(launchId));
+		assertThat(summary.getMessage(), containsString(": " + (LogStepdefs.LOGS_PER_STEP * 2 - 2) + " logs and attachments ("));
+	}
+
+	@Test
+	public void verify_text_logs_are_accounted_by_utf8_length() {
+		int logBytes = (LogStepdefs.NON_ASCII_LOG + 0).getBytes(StandardCharsets.UTF_8).length;
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setLaunchLogQuotaBytes(logBytes * 2);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(NonAsciiLogReporterTest.class);
+
+		assertThat(getLogs(LogStepdefs.NON_ASCII_LOG), hasSize(2));
+		List<SaveLogRQ> summaries = getLogs("Log quota of the launch was exceeded");
+		assertThat(summaries, hasSize(1));
+		assertThat(summaries.get(0).getMessage(), containsString(": 1 logs and attachments (" + logBytes + " bytes)"));
+	}
+
+	@Test
+	public void verify_quota_checks_each_entry_separately() {
+		LogQuota quota = new LogQuota(0, 10);
+
+		assertThat(quota.tryAcquire(8), equalTo(true));
+		assertThat(quota.tryAcquire(5), equalTo(false));
+		assertThat(quota.tryAcquire(2), equalTo(true));
+		assertThat(quota.tryAcquire(1), equalTo(false));
+		assertThat(quota.getDroppedCount(), equalTo(2L));
+		assertThat(quota.getDroppedBytes(), equalTo(6L));
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class NestedStepApiTest {
+
+	@CucumberOptions(features = "src/test/resources/features/NestedStepsFeature.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.nested" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class NestedStepApiReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String testId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(2).collect(Collectors.toList());
+	private final List<String> nestedStepIds = Stream.generate(() -> CommonUtils.namedId("nested_step_"))
+			.limit(3)
+			.collect(Collectors.toList());
+	private final String nestedNestedStepId = CommonUtils.namedId("double_nested_step_");
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, testId, stepIds);
+		TestUtils.mockNestedSteps(
+				client,
+				Arrays.asList(
+						Pair.of(stepIds.get(0), nestedStepIds.get(0)),
+						Pair.of(stepIds.get(1), nestedStepIds.get(1)),
+						Pair.of(stepIds.get(1), nestedStepIds.get(2))
+				)
+		);
+		TestUtils.mockNestedSteps(client, Collections.singletonList(Pair.of(nestedStepIds.get(0), nestedNestedStepId)));
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	@Test
+	public void verify_nested_steps_are_reported_without_weaving() {
+		TestUtils.runTests(NestedStepApiReporterTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> firstStepCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(same(stepIds.get(0)), firstStepCaptor.capture());
+		assertThat(firstStepCaptor.getValue().getName(), equalTo("A step inside step"));
+		assertThat(firstStepCaptor.getValue().isHasStats(), equalTo(Boolean.FALSE));
+
+		ArgumentCaptor<StartTestItemRQ> secondStepCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(2)).startTestItem(same(stepIds.get(1)), secondStepCaptor.capture());
+		assertThat(
+				secondStepCaptor.getAllValues().stream().map(StartTestItemRQ::getName).collect(Collectors.toList()),
+				contains("A step with parameters", "A step with attributes")
+		);
+
+		ArgumentCaptor<StartTestItemRQ> secondLevelCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(same(nestedStepIds.get(0)), secondLevelCaptor.capture());
+		assertThat(secondLevelCaptor.getValue().getName(), equalTo("A step inside nested step"));
+		assertThat(secondLevelCaptor.getValue().isHasStats(), equalTo(Boolean.FALSE));
+
+		Stream.concat(nestedStepIds.stream(), Stream.of(nestedNestedStepId)).forEach(id -> {
+			ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+			verify(client).finishTestItem(same(id), finishCaptor.capture());
+			assertThat(finishCaptor.getValue().getStatus(), equalTo(ItemStatus.PASSED.name()));
+		});
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.log.LogStepdefs;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.metrics.*;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+public class ReporterMetricsTest {
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.log" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class WriteLogReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.hooks.step.one" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class StepHooksReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, scenarioId, stepIds);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	@Test
+	public void verify_metrics_implementation_is_loaded_with_service_loader() throws Exception {
+		assertThat(ReporterMetrics.load(getClass().getClassLoader()), instanceOf(InMemoryReporterMetrics.class));
+		try (URLClassLoader emptyLoader = new URLClassLoader(new URL[0], null)) {
+			assertThat(ReporterMetrics.load(emptyLoader), sameInstance(NoOpReporterMetrics.INSTANCE));
+		}
+	}
+
+	@Test
+	public void verify_metrics_are_called_on_lifecycle_points() {
+		TestUtils.runTests(WriteLogReporterTest.class);
+
+		ReporterMetrics reporterMetrics = ScenarioReporter.getCurrent().getReporterMetrics();
+		assertThat(reporterMetrics, instanceOf(InMemoryReporterMetrics.class));
+		InMemoryReporterMetrics metrics = (InMemoryReporterMetrics) reporterMetrics;
+
+		assertThat(metrics.getStartedItems(ItemKind.FEATURE), equalTo(1L));
+		assertThat(metrics.getStartedItems(ItemKind.SCENARIO), equalTo(1L));
+		assertThat(metrics.getStartedItems(ItemKind.STEP), equalTo(2L));
+		assertThat(metrics.getStartedItems(ItemKind.RULE), equalTo(0L));
+		for (ItemKind kind : ItemKind.values()) {
+			assertThat(metrics.getFinishedItems(kind), equalTo(metrics.getStartedItems(kind)));
+		}
+		assertThat(metrics.getQueueDepth(), equalTo(0L));
+		assertThat(metrics.getMaxQueueDepth(), greaterThanOrEqualTo(3L));
+		assertThat(metrics.getLogCount(), equalTo(2L * LogStepdefs.LOGS_PER_STEP));
+		assertThat(metrics.getAttachmentCount(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_steps_after_before_step_hooks_are_counted_once() {
+		TestUtils.runTests(StepHooksReporterTest.class);
+
+		InMemoryReporterMetrics metrics = (InMemoryReporterMetrics) ScenarioReporter.getCurrent().getReporterMetrics();
+
+		// both steps are started as virtual items, which are created for their 'Before step' hooks
+		assertThat(metrics.getStartedItems(ItemKind.STEP), equalTo(2L));
+		// 'Before step' and 'After step' hooks with their suites
+		assertThat(metrics.getStartedItems(ItemKind.HOOK), greaterThanOrEqualTo(4L));
+		for (ItemKind kind : ItemKind.values()) {
+			assertThat(metrics.getFinishedItems(kind), equalTo(metrics.getStartedItems(kind)));
+		}
+		assertThat(metrics.getQueueDepth(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_composite_metrics_call_all_delegates() {
+		InMemoryReporterMetrics first = new InMemoryReporterMetrics();
+		InMemoryReporterMetrics second = new InMemoryReporterMetrics();
+		ReporterMetrics composite = new CompositeReporterMetrics(List.of(first, second));
+
+		composite.itemStarted(ItemKind.STEP);
+		composite.bytesEmbedded(42);
+
+		Stream.of(first, second).forEach(m -> {
+			assertThat(m.getStartedItems(ItemKind.STEP), equalTo(1L));
+			assertThat(m.getEmbeddedBytes(), equalTo(42L));
+		});
+	}
+}
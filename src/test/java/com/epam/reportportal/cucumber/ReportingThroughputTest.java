@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.FeatureGenerator;
+import com.epam.reportportal.cucumber.integration.util.ReportPortalStandIn;
+import com.epam.reportportal.cucumber.integration.util.ReportPortalStandIn.Endpoint;
+import com.epam.reportportal.cucumber.integration.util.SyntheticEvents;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.metrics.HandlerType;
+import com.epam.reportportal.cucumber.metrics.RunSummary;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.WriteEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Measures end-to-end reporting throughput, tail latency and launch drain time against a local ReportPortal stand-in. The
+ * test takes tens of seconds and checks wall-clock times, so it runs with <code>./gradlew performanceTest</code>, not with
+ * the default <code>test</code> task.
+ */
+@Tag("performance")
+public class ReportingThroughputTest {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportingThroughputTest.class);
+
+	private static final int SCENARIOS = 200;
+	private static final int STEPS = 5;
+	private static final long ITEMS = 1 + SCENARIOS * (1 + STEPS);
+	private static final Duration MIN_LATENCY = Duration.ofMillis(1);
+	private static final Duration MAX_LATENCY = Duration.ofMillis(5);
+	private static final int FINISH_ITEM_CAP = 1000;
+	private static final int REPORTING_TIMEOUT = 5;
+
+	private final ReportPortalStandIn standIn = new ReportPortalStandIn();
+	private final ListenerParameters params = TestUtils.standardParameters();
+
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+		standIn.close();
+	}
+
+	private ScenarioReporter run() throws IOException {
+		standIn.start();
+		params.setBaseUrl(standIn.getBaseUrl());
+		params.setApiKey("test-api-key");
+		ReporterParameters reporterParameters = new ReporterParameters();
+		reporterParameters.setMetricsEnabled(true);
+		reporterParameters.setSummaryFile(tempDir.resolve("summary.json").toString());
+		TestScenarioReporter.PARAMETERS.set(reporterParameters);
+		TestScenarioReporter.RP.set(ReportPortal.builder().withParameters(params).build());
+
+		Feature feature = SyntheticEvents.parseFeature("throughput.feature", FeatureGenerator.scenarios(SCENARIOS, STEPS));
+		TestScenarioReporter reporter = new TestScenarioReporter();
+		SyntheticEvents events = new SyntheticEvents();
+		reporter.setEventPublisher(events);
+		events.startRun(Collections.singletonList(feature));
+		for (TestCase testCase : SyntheticEvents.testCases(feature)) {
+			List<Object> testCaseEvents = SyntheticEvents.testCaseEvents(testCase);
+			// log inside the first Step
+			testCaseEvents.add(2, new WriteEvent(Instant.now(), testCase, "Generated log"));
+			events.publishAll(testCaseEvents);
+		}
+		events.finishRun();
+
+		RunSummary summary = reporter.getRunSummary();
+		LOGGER.info(
+				"Reported {} items in {} ms, {} items/s; drain at launch finish: {} ms; step handler p50/p99: {}/{} us; "
+						+ "finish item response p99: {} ms",
+				ITEMS,
+				TimeUnit.NANOSECONDS.toMillis(summary.getRunTime()),
+				String.format("%.1f", ITEMS * 1e9 / summary.getRunTime()),
+				TimeUnit.NANOSECONDS.toMillis(summary.getDrainTime()),
+				TimeUnit.NANOSECONDS.toMicros(reporter.getHandlerMetrics().getSnapshot(HandlerType.TEST_STEP_FINISHED).getValueAtPercentile(50)),
+				TimeUnit.NANOSECONDS.toMicros(reporter.getHandlerMetrics().getSnapshot(HandlerType.TEST_STEP_FINISHED).getValueAtPercentile(99)),
+				TimeUnit.NANOSECONDS.toMillis(standIn.getLatency(Endpoint.FINISH_ITEM).getValueAtPercentile(99))
+		);
+		return reporter;
+	}
+
+	@Test
+	public void verify_all_items_are_delivered_with_latency() throws IOException {
+		standIn.withLatency(Endpoint.START_ITEM, MIN_LATENCY, MAX_LATENCY)
+				.withLatency(Endpoint.FINISH_ITEM, MIN_LATENCY, MAX_LATENCY)
+				.withLatency(Endpoint.LOG, MIN_LATENCY, MAX_LATENCY);
+
+		RunSummary summary = run().getRunSummary();
+
+		assertThat(standIn.getRequestCount(Endpoint.START_LAUNCH), equalTo(1L));
+		assertThat(standIn.getRequestCount(Endpoint.START_ITEM), equalTo(ITEMS));
+		assertThat(standIn.getRequestCount(Endpoint.FINISH_ITEM), equalTo(ITEMS));
+		assertThat(standIn.getRequestCount(Endpoint.LOG), greaterThanOrEqualTo(1L));
+		assertThat(standIn.getRequestCount(Endpoint.FINISH_LAUNCH), equalTo(1L));
+		assertThat(summary.getOpenItems(), equalTo(0L));
+		assertThat(summary.getDrainTime(), greaterThan(0L));
+	}
+
+	@Test
+	public void verify_launch_finish_drains_throttled_items() throws IOException {
+		standIn.withThroughputCap(Endpoint.FINISH_ITEM, FINISH_ITEM_CAP);
+
+		RunSummary summary = run().getRunSummary();
+
+		assertThat(standIn.getRequestCount(Endpoint.FINISH_ITEM), equalTo(ITEMS));
+		assertThat(standIn.getRequestCount(Endpoint.FINISH_LAUNCH), equalTo(1L));
+		// the launch is not finished until all throttled item finishes are sent
+		assertThat(summary.getRunTime(), greaterThanOrEqualTo((ITEMS - 1) * TimeUnit.SECONDS.toNanos(1) / FINISH_ITEM_CAP));
+	}
+
+	@Test
+	public void verify_launch_is_finished_despite_log_errors() throws IOException {
+		standIn.withErrorRate(Endpoint.LOG, 1.0);
+		// failed logs are awaited until the reporting timeout, keep it short
+		params.setReportingTimeout(REPORTING_TIMEOUT);
+
+		RunSummary summary = run().getRunSummary();
+
+		assertThat(standIn.getRequestCount(Endpoint.LOG), greaterThanOrEqualTo(1L));
+		assertThat(standIn.getErrorCount(Endpoint.LOG), equalTo(standIn.getRequestCount(Endpoint.LOG)));
+		assertThat(standIn.getRequestCount(Endpoint.FINISH_ITEM), equalTo(ITEMS));
+		assertThat(standIn.getRequestCount(Endpoint.FINISH_LAUNCH), equalTo(1L));
+		assertThat(summary.getDrainTime(), lessThan(TimeUnit.SECONDS.toNanos(REPORTING_TIMEOUT * 2L)));
+	}
+}
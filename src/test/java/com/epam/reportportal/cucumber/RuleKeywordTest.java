@@ -51,6 +51,13 @@ public class RuleKeywordTest {
 
 	}
 
+	@CucumberOptions(features = "src/test/resources/features/RuleKeyword.feature", name = "^The (first|third) scenario$", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class FilteredScenarioTest extends AbstractTestNGCucumberTests {
+
+	}
+
 	// Step reporter
 	private final String launchId = CommonUtils.namedId("launch_");
 	private final String featureId = CommonUtils.namedId("feature_");
@@ -96,4 +103,23 @@ public class RuleKeywordTest {
 		verify(client, times(1)).startTestItem(same(ruleIds.get(1)), testRqCapture.capture());
 		testRqCapture.getAllValues().forEach(t -> assertThat(t.getType(), equalTo("STEP")));
 	}
+
+	@Test
+	public void verify_rule_with_filtered_out_scenario_is_finished() {
+		List<Pair<String, List<String>>> filteredTests = Arrays.asList(
+				Pair.of(ruleIds.get(0), testIds.subList(0, 1)),
+				Pair.of(ruleIds.get(1), testIds.subList(2, 3))
+		);
+		TestUtils.mockLaunch(client, launchId, featureId, filteredTests);
+		TestUtils.mockNestedSteps(client, Stream.concat(steps.subList(0, 2).stream(), steps.subList(4, 6).stream()).collect(Collectors.toList()));
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+
+		TestUtils.runTests(FilteredScenarioTest.class);
+
+		verify(client, times(2)).startTestItem(same(featureId), any());
+		verify(client, times(1)).finishTestItem(same(ruleIds.get(0)), any());
+		verify(client, times(1)).finishTestItem(same(ruleIds.get(1)), any());
+		verify(client, times(1)).finishTestItem(same(featureId), any());
+	}
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.log.LogStepdefs;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.metrics.ItemKind;
+import com.epam.reportportal.cucumber.metrics.RunSummary;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+public class RunSummaryTest {
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.log" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class WriteLogReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String scenarioId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = Stream.generate(() -> CommonUtils.namedId("step_")).limit(3).collect(Collectors.toList());
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, scenarioId, stepIds);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	@Test
+	public void verify_summary_file_is_not_written_by_default() {
+		TestUtils.runTests(WriteLogReporterTest.class);
+
+		RunSummary summary = ScenarioReporter.getCurrent().getRunSummary();
+		assertThat(summary.getItemCount(ItemKind.STEP), equalTo(2L));
+		assertThat(summary.getHandlerTime(), equalTo(0L));
+		assertThat(summary.getRunTime(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_summary_file_is_written() throws Exception {
+		Path summaryFile = tempDir.resolve("build").resolve("rp-summary.json");
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setSummaryFile(summaryFile.toString());
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(WriteLogReporterTest.class);
+
+		RunSummary summary = ScenarioReporter.getCurrent().getRunSummary();
+		assertThat(summary.getItemCount(ItemKind.FEATURE), equalTo(1L));
+		assertThat(summary.getItemCount(ItemKind.RULE), equalTo(0L));
+		assertThat(summary.getItemCount(ItemKind.SCENARIO), equalTo(1L));
+		assertThat(summary.getItemCount(ItemKind.STEP), equalTo(2L));
+		assertThat(summary.getItemCount(ItemKind.HOOK), greaterThan(0L));
+		// feature, scenario and step are open at the same time
+		assertThat(summary.getPeakOpenItems(), greaterThanOrEqualTo(3L));
+
+		long expectedLogBytes = Stream.of(LogStepdefs.FIRST_STEP_LOG, LogStepdefs.SECOND_STEP_LOG)
+				.flatMap(prefix -> IntStream.range(0, LogStepdefs.LOGS_PER_STEP).mapToObj(i -> prefix + i))
+				.mapToLong(message -> message.getBytes(StandardCharsets.UTF_8).length)
+				.sum();
+		assertThat(summary.getLogCount(), equalTo(2L * LogStepdefs.LOGS_PER_STEP));
+		assertThat(summary.getLogBytes(), equalTo(expectedLogBytes));
+		assertThat(summary.getAttachmentCount(), equalTo(0L));
+
+		assertThat(summary.getHandlerTime(), greaterThan(0L));
+		assertThat(summary.getRunTime(), greaterThanOrEqualTo(summary.getHandlerTime()));
+		assertThat(summary.getDrainTime(), lessThanOrEqualTo(summary.getRunTime()));
+
+		String json = new String(Files.readAllBytes(summaryFile), StandardCharsets.UTF_8);
+		assertThat(json, equalTo(summary.toJson()));
+		assertThat(json, containsString("\"STEP\": 2"));
+		assertThat(json, containsString("\"logs\": {\"count\": " + 2 * LogStepdefs.LOGS_PER_STEP + ", \"bytes\": " + expectedLogBytes + "}"));
+	}
+
+	@Test
+	public void verify_utf8_length() {
+		String text = "a\u00e9\u20ac\ud83d\ude00";
+		assertThat(RunSummary.utf8Length(text), equalTo((long) text.getBytes(StandardCharsets.UTF_8).length));
+		assertThat(RunSummary.utf8Length(null), equalTo(0L));
+	}
+}
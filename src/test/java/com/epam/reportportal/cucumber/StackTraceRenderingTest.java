@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.feature.FailedSteps;
+import com.epam.reportportal.cucumber.integration.feature.NestedCauseSteps;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.hamcrest.Matchers;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class StackTraceRenderingTest {
+	private static final String EXPECTED_ERROR = "java.lang.IllegalStateException: " + FailedSteps.ERROR_MESSAGE;
+	private static final String EXPECTED_CAUSE = "Caused by: java.lang.IllegalArgumentException: " + NestedCauseSteps.CAUSE_MESSAGE;
+
+	@CucumberOptions(features = "src/test/resources/features/FailedScenarioWithCauses.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class FailedScenarioWithCausesReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String testId = CommonUtils.namedId("scenario_");
+	private final String stepId = CommonUtils.namedId("step_");
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, testId, stepId);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	private String getScenarioDescription() {
+		ArgumentCaptor<FinishTestItemRQ> captor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client).finishTestItem(same(testId), captor.capture());
+		return captor.getValue().getDescription();
+	}
+
+	@Test
+	public void verify_all_causes_are_rendered_by_default() {
+		TestUtils.runTests(FailedScenarioWithCausesReporterTest.class);
+
+		String description = getScenarioDescription();
+		assertThat(description, Matchers.startsWith("Error:\n" + EXPECTED_ERROR + "\n\tat "));
+		for (int i = 1; i <= NestedCauseSteps.CAUSE_DEPTH; i++) {
+			assertThat(description, containsString(EXPECTED_CAUSE + i + "\n"));
+		}
+		assertThat(description, not(containsString("truncated")));
+	}
+
+	@Test
+	public void verify_frames_and_causes_are_bounded() {
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setErrorMaxFrames(1);
+		parameters.setErrorMaxCauseDepth(1);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+
+		TestUtils.runTests(FailedScenarioWithCausesReporterTest.class);
+
+		String description = getScenarioDescription();
+		assertThat(description, Matchers.startsWith("Error:\n" + EXPECTED_ERROR + "\n\tat "));
+		assertThat(description, containsString(EXPECTED_CAUSE + 1 + "\n"));
+		assertThat(description, not(containsString(EXPECTED_CAUSE + 2)));
+		assertThat(description, containsString("\t... 1 causes truncated\n"));
+
+		String topLevel = description.substring(0, description.indexOf(EXPECTED_CAUSE));
+		assertThat(topLevel.split("\tat ", -1).length - 1, equalTo(1));
+	}
+}
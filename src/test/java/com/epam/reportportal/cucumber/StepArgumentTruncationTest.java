@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import okhttp3.MultipartBody;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterLogs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class StepArgumentTruncationTest {
+	@CucumberOptions(features = "src/test/resources/features/DocStringParameters.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = {
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporter" })
+	public static class DocstringParameterTest extends AbstractTestNGCucumberTests {
+	}
+
+	private static final String DOCSTRING_PARAM = "My very long parameter\nWith some new lines";
+	private static final String DOCSTRING_LOG = "\"\"\"\n" + DOCSTRING_PARAM + "\n\"\"\"";
+	private static final int MAX_LENGTH = 20;
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String suiteId = CommonUtils.namedId("feature_");
+	private final String testId = CommonUtils.namedId("scenario_");
+	private final List<String> stepIds = List.of(CommonUtils.namedId("step_"), CommonUtils.namedId("step_"));
+
+	private final ListenerParameters params = TestUtils.standardParameters();
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+	private final ReportPortal reportPortal = ReportPortal.create(client, params, executorService);
+
+	@BeforeEach
+	public void setup() {
+		TestUtils.mockLaunch(client, launchId, suiteId, testId, stepIds);
+		TestUtils.mockLogging(client);
+		TestScenarioReporter.RP.set(reportPortal);
+		ReporterParameters parameters = new ReporterParameters();
+		parameters.setStepArgumentMaxLength(MAX_LENGTH);
+		TestScenarioReporter.PARAMETERS.set(parameters);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		TestScenarioReporter.PARAMETERS.remove();
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_long_docstring_is_truncated_and_attached_once() {
+		TestUtils.runTests(DocstringParameterTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> captor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(2)).startTestItem(same(testId), captor.capture());
+		StartTestItemRQ step = captor.getAllValues().get(1);
+
+		String description = step.getDescription();
+		assertThat(description, Matchers.startsWith("\n\"\"\"\n" + DOCSTRING_PARAM.substring(0, MAX_LENGTH - 5)));
+		assertThat(description, containsString("[Truncated: " + MAX_LENGTH + " of "));
+		assertThat(description, not(containsString(DOCSTRING_PARAM)));
+
+		List<ParameterResource> parameters = step.getParameters();
+		assertThat(parameters, hasSize(1));
+		assertThat(parameters.get(0).getValue(), Matchers.startsWith(DOCSTRING_PARAM.substring(0, MAX_LENGTH)));
+		assertThat(parameters.get(0).getValue(), containsString("[Truncated: " + MAX_LENGTH + " of " + DOCSTRING_PARAM.length()));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(1000).atLeastOnce()).log(logCaptor.capture());
+		List<SaveLogRQ> stepLogs = filterLogs(logCaptor, l -> stepIds.get(1).equals(l.getItemUuid()));
+		assertThat(stepLogs.stream().filter(l -> DOCSTRING_LOG.equals(l.getMessage())).count(), equalTo(0L));
+
+		List<SaveLogRQ> attachments = stepLogs.stream().filter(l -> l.getFile() != null).collect(Collectors.toList());
+		assertThat(attachments, hasSize(1));
+		assertThat(attachments.get(0).getMessage(), equalTo("Step argument"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_docstring_truncated_by_its_line_breaks_is_attached() {
+		// the argument fits into the limit only without its leading and trailing line breaks
+		TestScenarioReporter.PARAMETERS.get().setStepArgumentMaxLength(DOCSTRING_LOG.length() + 1);
+
+		TestUtils.runTests(DocstringParameterTest.class);
+
+		ArgumentCaptor<StartTestItemRQ> captor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(2)).startTestItem(same(testId), captor.capture());
+		assertThat(captor.getAllValues().get(1).getDescription(), containsString("see the 'Step argument' attachment"));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(1000).atLeastOnce()).log(logCaptor.capture());
+		List<SaveLogRQ> stepLogs = filterLogs(logCaptor, l -> stepIds.get(1).equals(l.getItemUuid()));
+		List<SaveLogRQ> attachments = stepLogs.stream().filter(l -> l.getFile() != null).collect(Collectors.toList());
+		assertThat(attachments, hasSize(1));
+		assertThat(attachments.get(0).getMessage(), equalTo("Step argument"));
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporter;
+import com.epam.reportportal.cucumber.integration.util.FeatureGenerator;
+import com.epam.reportportal.cucumber.integration.util.SyntheticEvents;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.metrics.ItemKind;
+import com.epam.reportportal.cucumber.metrics.RunSummary;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.plugin.event.TestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs generated suites of two sizes through the reporter and checks that reporting time and retained heap grow linearly with
+ * the suite size. Wall-clock and heap measurements depend on the machine load, so the test runs with
+ * <code>./gradlew performanceTest</code>, not with the default <code>test</code> task.
+ */
+@Tag("performance")
+public class SuiteScalingTest {
+	private static final int SCALE = 4;
+
+	/**
+	 * Maximum ratio of per-Scenario reporting time of the big suite to the one of the small suite. Linear growth gives 1,
+	 * quadratic growth gives {@link #SCALE}.
+	 */
+	private static final double MAX_TIME_RATIO = 2.5;
+
+	/**
+	 * Maximum heap retained by the reporter and the client per reported Scenario, after the launch is finished.
+	 */
+	private static final long MAX_RETAINED_BYTES_PER_SCENARIO = 16 * 1024;
+
+	/**
+	 * Suite shapes, each one generates a feature with the given size.
+	 */
+	public enum Shape {
+		SCENARIOS(500, size -> FeatureGenerator.scenarios(size, 3)),
+		RULES(50, size -> FeatureGenerator.rules(size, 10, 3)),
+		OUTLINE(1250, size -> FeatureGenerator.outline(size, 3)),
+		DATA_TABLES(100, size -> FeatureGenerator.dataTables(size, 3, 50, 5));
+
+		private final int size;
+		private final IntFunction<String> generator;
+
+		Shape(int size, IntFunction<String> generator) {
+			this.size = size;
+			this.generator = generator;
+		}
+	}
+
+	private final ExecutorService executorService = CommonUtils.testExecutor();
+
+	@AfterEach
+	public void tearDown() {
+		CommonUtils.shutdownExecutorService(executorService);
+	}
+
+	private static long usedHeap() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	private static final class RunResult {
+		private final int scenarios;
+		private final long time;
+		private final long retainedHeap;
+
+		private RunResult(int scenarios, long time, long retainedHeap) {
+			this.scenarios = scenarios;
+			this.time = time;
+			this.retainedHeap = retainedHeap;
+		}
+
+		private double timePerScenario() {
+			return (double) time / scenarios;
+		}
+	}
+
+	private RunResult run(Shape shape, int size) {
+		ReportPortalClient client = mock(ReportPortalClient.class, withSettings().stubOnly());
+		TestUtils.mockAnyLaunch(client, CommonUtils.namedId("launch_"));
+		TestScenarioReporter.RP.set(ReportPortal.create(client, TestUtils.standardParameters(), executorService));
+
+		Feature feature = SyntheticEvents.parseFeature("generated/" + shape.name() + "-" + size + ".feature", shape.generator.apply(size));
+		List<TestCase> testCases = SyntheticEvents.testCases(feature);
+		long baseline = usedHeap();
+
+		long start = System.nanoTime();
+		TestScenarioReporter reporter = new TestScenarioReporter();
+		SyntheticEvents events = new SyntheticEvents();
+		reporter.setEventPublisher(events);
+		events.startRun(Collections.singletonList(feature));
+		testCases.forEach(events::runTestCase);
+		events.finishRun();
+		long time = System.nanoTime() - start;
+
+		long retainedHeap = usedHeap() - baseline;
+		RunSummary summary = reporter.getRunSummary();
+		assertThat(summary.getItemCount(ItemKind.SCENARIO), equalTo((long) testCases.size()));
+		assertThat(summary.getItemCount(ItemKind.FEATURE), equalTo(1L));
+		assertThat(summary.getOpenItems(), equalTo(0L));
+		Reference.reachabilityFence(reporter);
+		return new RunResult(testCases.size(), time, retainedHeap);
+	}
+
+	@ParameterizedTest
+	@EnumSource(Shape.class)
+	public void verify_reporting_time_and_retained_heap_grow_linearly(Shape shape) {
+		// warm up
+		run(shape, shape.size);
+
+		RunResult small = run(shape, shape.size);
+		RunResult big = run(shape, shape.size * SCALE);
+
+		assertThat(
+				String.format("Per-scenario time grew from %.0f ns to %.0f ns", small.timePerScenario(), big.timePerScenario()),
+				big.timePerScenario() / small.timePerScenario(),
+				lessThan(MAX_TIME_RATIO)
+		);
+		assertThat(big.retainedHeap, lessThan(MAX_RETAINED_BYTES_PER_SCENARIO * big.scenarios));
+	}
+}
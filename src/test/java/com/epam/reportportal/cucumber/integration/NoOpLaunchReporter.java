@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration;
+
+import com.epam.reportportal.cucumber.ReporterParameters;
+import com.epam.reportportal.cucumber.ScenarioReporter;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.NoOpItemLaunch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import jakarta.annotation.Nonnull;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Reporter which builds all requests, but reports them to a {@link NoOpItemLaunch}, so only the agent own cost is measured.
+ */
+public class NoOpLaunchReporter extends ScenarioReporter {
+	private final Launch launch = new NoOpItemLaunch(mock(ReportPortalClient.class), new ListenerParameters());
+
+	@Override
+	protected ReportPortal buildReportPortal() {
+		return ReportPortal.create(mock(ReportPortalClient.class), new ListenerParameters());
+	}
+
+	@Override
+	@Nonnull
+	protected ReporterParameters buildReporterParameters() {
+		return new ReporterParameters();
+	}
+
+	@Override
+	@Nonnull
+	public Launch getLaunch() {
+		return launch;
+	}
+}
@@ -16,14 +16,25 @@
 
 package com.epam.reportportal.cucumber.integration;
 
+import com.epam.reportportal.cucumber.ReporterParameters;
 import com.epam.reportportal.cucumber.ScenarioReporter;
 import com.epam.reportportal.service.ReportPortal;
+import jakarta.annotation.Nonnull;
+
+import static java.util.Optional.ofNullable;
 
 public class TestScenarioReporter extends ScenarioReporter {
 	public static final ThreadLocal<ReportPortal> RP = new ThreadLocal<>();
+	public static final ThreadLocal<ReporterParameters> PARAMETERS = new ThreadLocal<>();
 
 	@Override
 	protected ReportPortal buildReportPortal() {
 		return RP.get();
 	}
+
+	@Override
+	@Nonnull
+	protected ReporterParameters buildReporterParameters() {
+		return ofNullable(PARAMETERS.get()).orElseGet(super::buildReporterParameters);
+	}
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.feature;
+
+import io.cucumber.java.en.Given;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@SuppressWarnings("unused")
+public class NestedCauseSteps {
+	private static final Logger LOGGER = LoggerFactory.getLogger(NestedCauseSteps.class);
+
+	public static final String CAUSE_MESSAGE = "A cause of level ";
+	public static final int CAUSE_DEPTH = 3;
+
+	@Given("I have a failed step with nested causes")
+	public void i_have_a_failed_step_with_nested_causes() {
+		LOGGER.info("Inside 'I have a failed step with nested causes'");
+		Throwable cause = null;
+		for (int i = CAUSE_DEPTH; i > 0; i--) {
+			cause = new IllegalArgumentException(CAUSE_MESSAGE + i, cause);
+		}
+		throw new IllegalStateException(FailedSteps.ERROR_MESSAGE, cause);
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.generated;
+
+import io.cucumber.java.en.Given;
+
+/**
+ * Glue code for features from {@link com.epam.reportportal.cucumber.integration.util.FeatureGenerator} without Step arguments.
+ */
+public class GeneratedSteps {
+	@Given("^generated step (.+)$")
+	public void generated_step(String text) {
+	}
+}
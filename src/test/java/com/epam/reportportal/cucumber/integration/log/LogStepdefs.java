@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.log;
+
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+@SuppressWarnings("unused")
+public class LogStepdefs {
+	public static final int LOGS_PER_STEP = 3;
+	public static final String FIRST_STEP_LOG = "First step log ";
+	public static final String SECOND_STEP_LOG = "Second step log ";
+	public static final String NON_ASCII_LOG = "\u041b\u043e\u0433 ";
+
+	private Scenario scenario;
+
+	@Before
+	public void before(Scenario scenario) {
+		this.scenario = scenario;
+	}
+
+	@Given("I have empty step")
+	public void i_have_empty_step() {
+		for (int i = 0; i < LOGS_PER_STEP; i++) {
+			scenario.log(FIRST_STEP_LOG + i);
+		}
+	}
+
+	@Then("I have another empty step")
+	public void i_have_another_empty_step() {
+		for (int i = 0; i < LOGS_PER_STEP; i++) {
+			scenario.log(SECOND_STEP_LOG + i);
+		}
+	}
+
+	@Given("I have a step with non-ASCII logs")
+	public void i_have_a_step_with_non_ascii_logs() {
+		for (int i = 0; i < LOGS_PER_STEP; i++) {
+			scenario.log(NON_ASCII_LOG + i);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.nested;
+
+import com.epam.reportportal.cucumber.NestedStep;
+import com.epam.reportportal.util.test.CommonUtils;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class NestedStepApiSteps {
+	private static final Logger LOGGER = LoggerFactory.getLogger(NestedStepApiSteps.class);
+
+	@Given("I have a step")
+	public void i_have_empty_step() throws InterruptedException {
+		LOGGER.info("Inside 'I have a step'");
+		Thread.sleep(CommonUtils.MINIMAL_TEST_PAUSE);
+		NestedStep.run(
+				"A step inside step", () -> {
+					LOGGER.info("Inside 'A step inside step'");
+					Thread.sleep(CommonUtils.MINIMAL_TEST_PAUSE);
+					NestedStep.run("A step inside nested step", () -> LOGGER.info("Inside 'A step inside nested step'"));
+				}
+		);
+	}
+
+	@When("I have one more step")
+	public void i_have_one_more_step() throws InterruptedException {
+		LOGGER.info("Inside 'I have one more step'");
+		Thread.sleep(CommonUtils.MINIMAL_TEST_PAUSE);
+		String result = NestedStep.call(
+				"A step with parameters", () -> {
+					Thread.sleep(CommonUtils.MINIMAL_TEST_PAUSE);
+					return "result";
+				}
+		);
+		LOGGER.info("Nested step result: '{}'", result);
+		NestedStep.run("A step with attributes", () -> Thread.sleep(CommonUtils.MINIMAL_TEST_PAUSE));
+	}
+}
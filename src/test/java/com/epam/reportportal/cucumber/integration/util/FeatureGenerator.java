@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.util;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Generates feature texts of large synthetic suites. All Steps have the same text pattern, so no glue code is needed if the
+ * features are fed to a reporter with {@link SyntheticEvents}.
+ */
+public class FeatureGenerator {
+	private static final String FEATURE_FORMAT = "@generated\nFeature: %s\n\n";
+
+	private FeatureGenerator() {
+	}
+
+	private static void appendSteps(@Nonnull StringBuilder source, int steps, @Nonnull String indent) {
+		for (int i = 0; i < steps; i++) {
+			source.append(indent).append(i == 0 ? "Given" : "And").append(" generated step ").append(i).append('\n');
+		}
+	}
+
+	private static void appendTable(@Nonnull StringBuilder source, int rows, int columns, @Nonnull String indent) {
+		for (int row = 0; row < rows; row++) {
+			source.append(indent).append('|');
+			for (int column = 0; column < columns; column++) {
+				source.append(" cell ").append(row).append('-').append(column).append(" |");
+			}
+			source.append('\n');
+		}
+	}
+
+	/**
+	 * Generates a feature with plain Scenarios.
+	 *
+	 * @param scenarios number of Scenarios
+	 * @param steps     number of Steps in each Scenario
+	 * @return feature text
+	 */
+	@Nonnull
+	public static String scenarios(int scenarios, int steps) {
+		StringBuilder source = new StringBuilder(String.format(FEATURE_FORMAT, "Generated scenarios"));
+		for (int i = 0; i < scenarios; i++) {
+			source.append("  @scenario-").append(i).append('\n');
+			source.append("  Scenario: Generated scenario ").append(i).append('\n');
+			appendSteps(source, steps, "    ");
+			source.append('\n');
+		}
+		return source.toString();
+	}
+
+	/**
+	 * Generates a feature where Scenarios are grouped into Rules. Each Rule has its own Background.
+	 *
+	 * @param rules     number of Rules
+	 * @param scenarios number of Scenarios in each Rule
+	 * @param steps     number of Steps in each Scenario
+	 * @return feature text
+	 */
+	@Nonnull
+	public static String rules(int rules, int scenarios, int steps) {
+		StringBuilder source = new StringBuilder(String.format(FEATURE_FORMAT, "Generated rules"));
+		for (int i = 0; i < rules; i++) {
+			source.append("  Rule: Generated rule ").append(i).append("\n\n");
+			source.append("    Background:\n");
+			appendSteps(source, 1, "      ");
+			source.append('\n');
+			for (int j = 0; j < scenarios; j++) {
+				source.append("    Scenario: Generated scenario ").append(i).append('-').append(j).append('\n');
+				appendSteps(source, steps, "      ");
+				source.append('\n');
+			}
+		}
+		return source.toString();
+	}
+
+	/**
+	 * Generates a feature with one Scenario Outline.
+	 *
+	 * @param rows  number of Examples rows
+	 * @param steps number of Steps in the Outline
+	 * @return feature text
+	 */
+	@Nonnull
+	public static String outline(int rows, int steps) {
+		StringBuilder source = new StringBuilder(String.format(FEATURE_FORMAT, "Generated outline"));
+		source.append("  Scenario Outline: Generated outline <index>\n");
+		for (int i = 0; i < steps; i++) {
+			source.append("    ").append(i == 0 ? "Given" : "And").append(" generated step <index> and <value>\n");
+		}
+		source.append("\n    Examples:\n      | index | value |\n");
+		for (int i = 0; i < rows; i++) {
+			source.append("      | ").append(i).append(" | value ").append(i).append(" |\n");
+		}
+		return source.toString();
+	}
+
+	/**
+	 * Generates a feature with Scenarios, where each Step has a DocString argument.
+	 *
+	 * @param scenarios number of Scenarios
+	 * @param steps     number of Steps in each Scenario
+	 * @param lines     number of DocString lines
+	 * @return feature text
+	 */
+	@Nonnull
+	public static String docStrings(int scenarios, int steps, int lines) {
+		StringBuilder source = new StringBuilder(String.format(FEATURE_FORMAT, "Generated doc strings"));
+		for (int i = 0; i < scenarios; i++) {
+			source.append("  Scenario: Generated scenario ").append(i).append('\n');
+			for (int j = 0; j < steps; j++) {
+				appendSteps(source, 1, "    ");
+				source.append("      \"\"\"\n");
+				for (int line = 0; line < lines; line++) {
+					source.append("      Doc string line ").append(line).append('\n');
+				}
+				source.append("      \"\"\"\n");
+			}
+			source.append('\n');
+		}
+		return source.toString();
+	}
+
+	/**
+	 * Generates a feature with Scenarios, where each Step has a DataTable argument.
+	 *
+	 * @param scenarios number of Scenarios
+	 * @param steps     number of Steps in each Scenario
+	 * @param rows      number of DataTable rows
+	 * @param columns   number of DataTable columns
+	 * @return feature text
+	 */
+	@Nonnull
+	public static String dataTables(int scenarios, int steps, int rows, int columns) {
+		StringBuilder source = new StringBuilder(String.format(FEATURE_FORMAT, "Generated data tables"));
+		for (int i = 0; i < scenarios; i++) {
+			source.append("  Scenario: Generated scenario ").append(i).append('\n');
+			for (int j = 0; j < steps; j++) {
+				appendSteps(source, 1, "    ");
+				appendTable(source, rows, columns, "      ");
+			}
+			source.append('\n');
+		}
+		return source.toString();
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.util;
+
+import com.epam.reportportal.cucumber.metrics.LatencyHistogram;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.Nonnull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Local HTTP stand-in for ReportPortal API, which answers every request with a minimal valid response. Each endpoint can be
+ * configured with a latency range, an error rate and a throughput cap, so the agent can be measured end-to-end without a
+ * real server.
+ * <p>
+ * Configure the stand-in before {@link #start()}, then point {@link com.epam.reportportal.listeners.ListenerParameters} to
+ * {@link #getBaseUrl()}.
+ */
+public class ReportPortalStandIn implements Closeable {
+	private static final String JSON_TYPE = "application/json";
+	private static final String ERROR_RESPONSE = "{\"errorCode\": 5000, \"message\": \"Injected error\"}";
+
+	static {
+		// JDK HTTP server sends response headers and body in separate packets, without TCP_NODELAY every response waits for
+		// a delayed ACK of the headers; the property is read once, when the server classes are loaded
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	/**
+	 * ReportPortal API endpoints recognized by the stand-in.
+	 */
+	public enum Endpoint {
+		START_LAUNCH("POST", ".*/launch"),
+		FINISH_LAUNCH("PUT", ".*/launch/[^/]+/finish"),
+		START_ITEM("POST", ".*/item(/[^/]+)?"),
+		FINISH_ITEM("PUT", ".*/item/[^/]+"),
+		LOG("POST", ".*/log(/.*)?"),
+		OTHER(null, ".*");
+
+		private final String method;
+		private final Pattern path;
+
+		Endpoint(String method, String path) {
+			this.method = method;
+			this.path = Pattern.compile(path);
+		}
+
+		@Nonnull
+		static Endpoint of(@Nonnull String method, @Nonnull String path) {
+			return Arrays.stream(values())
+					.filter(e -> e.method == null || e.method.equalsIgnoreCase(method))
+					.filter(e -> e.path.matcher(path).matches())
+					.findFirst()
+					.orElse(OTHER);
+		}
+
+		@Nonnull
+		private String response() {
+			String id = UUID.randomUUID().toString();
+			switch (this) {
+				case START_LAUNCH:
+					return "{\"id\": \"" + id + "\", \"number\": 1}";
+				case START_ITEM:
+					return "{\"id\": \"" + id + "\", \"uniqueId\": \"" + id + "\"}";
+				case FINISH_LAUNCH:
+				case FINISH_ITEM:
+					return "{\"message\": \"OK\"}";
+				case LOG:
+					return "{\"responses\": []}";
+				default:
+					return "{}";
+			}
+		}
+	}
+
+	/**
+	 * Behavior and statistics of a single endpoint.
+	 */
+	private static final class EndpointState {
+		private volatile long minLatency;
+		private volatile long maxLatency;
+		private volatile double errorRate;
+		private volatile long requestInterval;
+		private final AtomicLong nextSlot = new AtomicLong();
+		private final AtomicLong requests = new AtomicLong();
+		private final AtomicLong errors = new AtomicLong();
+		private final LatencyHistogram latency = new LatencyHistogram();
+
+		private long delay(long arrival) {
+			long interval = requestInterval;
+			long wait = 0;
+			if (interval > 0) {
+				long slot = nextSlot.accumulateAndGet(arrival, (previous, now) -> Math.max(previous, now) + interval) - interval;
+				wait = slot - arrival;
+			}
+			long min = minLatency;
+			long max = maxLatency;
+			return wait + (max > min ? ThreadLocalRandom.current().nextLong(min, max + 1) : min);
+		}
+	}
+
+	private final Map<Endpoint, EndpointState> endpoints = new EnumMap<>(Endpoint.class);
+	private HttpServer server;
+	private ExecutorService executor;
+
+	public ReportPortalStandIn() {
+		for (Endpoint endpoint : Endpoint.values()) {
+			endpoints.put(endpoint, new EndpointState());
+		}
+	}
+
+	/**
+	 * Sets a random response latency of an endpoint.
+	 *
+	 * @param endpoint an endpoint
+	 * @param min      minimum latency
+	 * @param max      maximum latency
+	 * @return self
+	 */
+	@Nonnull
+	public ReportPortalStandIn withLatency(@Nonnull Endpoint endpoint, @Nonnull Duration min, @Nonnull Duration max) {
+		EndpointState state = endpoints.get(endpoint);
+		state.minLatency = min.toNanos();
+		state.maxLatency = max.toNanos();
+		return this;
+	}
+
+	/**
+	 * Sets a share of requests to an endpoint, which are answered with HTTP 500 error.
+	 *
+	 * @param endpoint  an endpoint
+	 * @param errorRate a share of failed requests from 0 to 1
+	 * @return self
+	 */
+	@Nonnull
+	public ReportPortalStandIn withErrorRate(@Nonnull Endpoint endpoint, double errorRate) {
+		endpoints.get(endpoint).errorRate = errorRate;
+		return this;
+	}
+
+	/**
+	 * Limits the rate of requests to an endpoint. Requests over the limit wait for their turn before the response latency.
+	 *
+	 * @param endpoint          an endpoint
+	 * @param requestsPerSecond maximum number of requests per second, non-positive value removes the limit
+	 * @return self
+	 */
+	@Nonnull
+	public ReportPortalStandIn withThroughputCap(@Nonnull Endpoint endpoint, int requestsPerSecond) {
+		endpoints.get(endpoint).requestInterval = requestsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / requestsPerSecond : 0;
+		return this;
+	}
+
+	/**
+	 * Starts the stand-in on a free loopback port.
+	 *
+	 * @return self
+	 * @throws IOException if the server can't be started
+	 */
+	@Nonnull
+	public ReportPortalStandIn start() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		executor = Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "rp-stand-in");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+		server.start();
+		return this;
+	}
+
+	/**
+	 * @return URL to use as <code>rp.endpoint</code>
+	 */
+	@Nonnull
+	public String getBaseUrl() {
+		return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+	}
+
+	/**
+	 * @param endpoint an endpoint
+	 * @return number of requests received by the endpoint, including failed ones
+	 */
+	public long getRequestCount(@Nonnull Endpoint endpoint) {
+		return endpoints.get(endpoint).requests.get();
+	}
+
+	/**
+	 * @param endpoint an endpoint
+	 * @return number of requests answered with an injected error
+	 */
+	public long getErrorCount(@Nonnull Endpoint endpoint) {
+		return endpoints.get(endpoint).errors.get();
+	}
+
+	/**
+	 * @param endpoint an endpoint
+	 * @return response times of the endpoint in nanoseconds, including throttling waits and injected latency
+	 */
+	@Nonnull
+	public LatencyHistogram.Snapshot getLatency(@Nonnull Endpoint endpoint) {
+		return endpoints.get(endpoint).latency.snapshot();
+	}
+
+	private void handle(@Nonnull HttpExchange exchange) throws IOException {
+		long arrival = System.nanoTime();
+		try (InputStream body = exchange.getRequestBody()) {
+			body.transferTo(OutputStream.nullOutputStream());
+		}
+		Endpoint endpoint = Endpoint.of(exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+		EndpointState state = endpoints.get(endpoint);
+		state.requests.incrementAndGet();
+		long delay = state.delay(arrival);
+		if (delay > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		boolean error = state.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < state.errorRate;
+		if (error) {
+			state.errors.incrementAndGet();
+		}
+		byte[] response = (error ? ERROR_RESPONSE : endpoint.response()).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+		exchange.sendResponseHeaders(error ? 500 : 200, response.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(response);
+		}
+		state.latency.record(System.nanoTime() - arrival);
+	}
+
+	@Override
+	public void close() {
+		if (server != null) {
+			server.stop(0);
+			executor.shutdownNow();
+		}
+	}
+}
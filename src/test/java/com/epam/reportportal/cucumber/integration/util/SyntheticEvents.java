@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.util;
+
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.gherkin.Feature;
+import io.cucumber.core.gherkin.Pickle;
+import io.cucumber.plugin.event.*;
+import jakarta.annotation.Nonnull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Feeds Cucumber events to a plugin without running Cucumber. Features are parsed from a text, Test Cases and Steps are built
+ * from the feature pickles, so no glue code is involved. The reporter reads feature files, e.g. to get Scenario Outline
+ * parameters, so the feature text is also written to a temporary file, which is used as the feature URI.
+ */
+public class SyntheticEvents implements EventPublisher {
+	private static final String CODE_LOCATION = "com.epam.reportportal.cucumber.SyntheticSteps.step()";
+	private static final Result PASSED = new Result(Status.PASSED, Duration.ZERO, null);
+
+	private static final Path FEATURE_DIRECTORY = createFeatureDirectory();
+
+	private final Map<Class<?>, List<EventHandler<?>>> handlers = new HashMap<>();
+
+	@Nonnull
+	private static Path createFeatureDirectory() {
+		try {
+			Path directory = Files.createTempDirectory("rp-synthetic-features");
+			directory.toFile().deleteOnExit();
+			return directory;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Nonnull
+	private static URI writeFeature(@Nonnull String path, @Nonnull String source) {
+		Path file = FEATURE_DIRECTORY.resolve(path);
+		try {
+			Path directory = Files.createDirectories(file.getParent());
+			directory.toFile().deleteOnExit();
+			Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		file.toFile().deleteOnExit();
+		return file.toUri();
+	}
+
+	/**
+	 * Parses a feature from the given source.
+	 *
+	 * @param path   feature file path, relative to the temporary feature directory
+	 * @param source feature text
+	 * @return parsed feature
+	 */
+	@Nonnull
+	public static Feature parseFeature(@Nonnull String path, @Nonnull String source) {
+		URI uri = writeFeature(path, source);
+		FeatureParser parser = new FeatureParser(UUID::randomUUID);
+		return parser.parseResource(new io.cucumber.core.resource.Resource() {
+			@Override
+			public URI getUri() {
+				return uri;
+			}
+
+			@Override
+			public ByteArrayInputStream getInputStream() {
+				return new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
+			}
+		}).orElseThrow(() -> new IllegalArgumentException("Empty feature: " + path));
+	}
+
+	/**
+	 * Builds Test Cases of all pickles of the feature, in the feature order.
+	 *
+	 * @param feature parsed feature
+	 * @return Test Cases
+	 */
+	@Nonnull
+	public static List<TestCase> testCases(@Nonnull Feature feature) {
+		return feature.getPickles().stream().map(SyntheticTestCase::new).collect(Collectors.toList());
+	}
+
+	/**
+	 * Builds the events of a passed Test Case: start, start and finish of each Step, finish.
+	 *
+	 * @param testCase a Test Case
+	 * @return the events in the publishing order
+	 */
+	@Nonnull
+	public static List<Object> testCaseEvents(@Nonnull TestCase testCase) {
+		Instant now = Instant.now();
+		List<Object> result = new ArrayList<>();
+		result.add(new TestCaseStarted(now, testCase));
+		testCase.getTestSteps().forEach(step -> {
+			result.add(new TestStepStarted(now, testCase, step));
+			result.add(new TestStepFinished(now, testCase, step, PASSED));
+		});
+		result.add(new TestCaseFinished(now, testCase, PASSED));
+		return result;
+	}
+
+	@Override
+	public <T> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+		handlers.computeIfAbsent(eventType, t -> new ArrayList<>()).add(handler);
+	}
+
+	@Override
+	public <T> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+		ofNullable(handlers.get(eventType)).ifPresent(h -> h.remove(handler));
+	}
+
+	/**
+	 * Sends an event to all handlers registered for the event class.
+	 *
+	 * @param event an event
+	 */
+	@SuppressWarnings("unchecked")
+	public void publish(@Nonnull Object event) {
+		List<EventHandler<?>> eventHandlers = handlers.get(event.getClass());
+		if (eventHandlers == null) {
+			return;
+		}
+		for (int i = 0; i < eventHandlers.size(); i++) {
+			((EventHandler<Object>) eventHandlers.get(i)).receive(event);
+		}
+	}
+
+	/**
+	 * Sends events to all handlers registered for the event classes, in the list order.
+	 *
+	 * @param events events
+	 */
+	public void publishAll(@Nonnull List<?> events) {
+		for (int i = 0; i < events.size(); i++) {
+			publish(events.get(i));
+		}
+	}
+
+	/**
+	 * Sends run start and source parsed events of the given features.
+	 *
+	 * @param features parsed features
+	 */
+	public void startRun(@Nonnull Collection<Feature> features) {
+		Instant now = Instant.now();
+		publish(new TestRunStarted(now));
+		features.forEach(f -> publish(new TestSourceParsed(now, f.getUri(), Collections.singletonList(f))));
+	}
+
+	/**
+	 * Sends all events of the given Test Case.
+	 *
+	 * @param testCase a Test Case
+	 */
+	public void runTestCase(@Nonnull TestCase testCase) {
+		publishAll(testCaseEvents(testCase));
+	}
+
+	/**
+	 * Sends run finish event.
+	 */
+	public void finishRun() {
+		publish(new TestRunFinished(Instant.now(), PASSED));
+	}
+
+	private static final class SyntheticTestCase implements TestCase {
+		private final Pickle pickle;
+		private final List<TestStep> steps;
+
+		private SyntheticTestCase(@Nonnull Pickle pickle) {
+			this.pickle = pickle;
+			steps = pickle.getSteps().stream().map(s -> new SyntheticTestStep(pickle.getUri(), s)).collect(Collectors.toList());
+		}
+
+		@Override
+		@Deprecated
+		public Integer getLine() {
+			return pickle.getLocation().getLine();
+		}
+
+		@Override
+		public Location getLocation() {
+			return pickle.getLocation();
+		}
+
+		@Override
+		public String getKeyword() {
+			return pickle.getKeyword();
+		}
+
+		@Override
+		public String getName() {
+			return pickle.getName();
+		}
+
+		@Override
+		@Deprecated
+		public String getScenarioDesignation() {
+			return pickle.getUri() + ":" + getLine() + " # " + getName();
+		}
+
+		@Override
+		public List<String> getTags() {
+			return pickle.getTags();
+		}
+
+		@Override
+		public List<TestStep> getTestSteps() {
+			return steps;
+		}
+
+		@Override
+		public URI getUri() {
+			return pickle.getUri();
+		}
+
+		@Override
+		public UUID getId() {
+			return UUID.nameUUIDFromBytes(pickle.getId().getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private static final class SyntheticTestStep implements PickleStepTestStep {
+		private final UUID id = UUID.randomUUID();
+		private final URI uri;
+		private final io.cucumber.core.gherkin.Step step;
+
+		private SyntheticTestStep(@Nonnull URI uri, @Nonnull io.cucumber.core.gherkin.Step step) {
+			this.uri = uri;
+			this.step = step;
+		}
+
+		@Override
+		public String getCodeLocation() {
+			return CODE_LOCATION;
+		}
+
+		@Override
+		public UUID getId() {
+			return id;
+		}
+
+		@Override
+		public String getPattern() {
+			return step.getText();
+		}
+
+		@Override
+		public Step getStep() {
+			return step;
+		}
+
+		@Override
+		public List<Argument> getDefinitionArgument() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		@Deprecated
+		public StepArgument getStepArgument() {
+			return ((Step) step).getArgument();
+		}
+
+		@Override
+		@Deprecated
+		public int getStepLine() {
+			return step.getLine();
+		}
+
+		@Override
+		public URI getUri() {
+			return uri;
+		}
+
+		@Override
+		@Deprecated
+		public String getStepText() {
+			return step.getText();
+		}
+	}
+}
@@ -113,6 +113,23 @@ public class TestUtils {
 		when(client.finishLaunch(eq(launchUuid), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
 	}
 
+	/**
+	 * Mocks a launch, which accepts any number of items. Each started item gets a new unique ID.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void mockAnyLaunch(ReportPortalClient client, String launchUuid) {
+		when(client.startLaunch(any())).thenReturn(Maybe.just(new StartLaunchRS(launchUuid, 1L)));
+		Answer<Maybe<ItemCreatedRS>> itemCreated = invocation -> {
+			String uuid = generateUniqueId();
+			return Maybe.just(new ItemCreatedRS(uuid, uuid));
+		};
+		when(client.startTestItem(any())).thenAnswer(itemCreated);
+		when(client.startTestItem(anyString(), any())).thenAnswer(itemCreated);
+		when(client.finishTestItem(anyString(), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.finishLaunch(eq(launchUuid), any())).thenReturn(Maybe.just(new OperationCompletionRS()));
+		when(client.log(any(List.class))).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
+	}
+
 	@SuppressWarnings("unchecked")
 	public static void mockLogging(ReportPortalClient client) {
 		when(client.log(any(List.class))).thenReturn(Maybe.just(new BatchSaveOperatingRS()));
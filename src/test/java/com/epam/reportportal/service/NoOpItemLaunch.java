@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.utils.formatting.templating.TemplateConfiguration;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+
+import java.util.function.Function;
+
+/**
+ * Launch which reports nothing, like {@link Launch#NOOP_LAUNCH}, but returns a non-empty ID for started items, so the
+ * reporter sees Features and Rules as started and doesn't start them again for every Scenario. It is located in the
+ * client package, since {@link Launch} constructors are package-private.
+ */
+public class NoOpItemLaunch extends Launch {
+	private static final Maybe<String> LAUNCH_ID = Maybe.just("noop-launch");
+	private static final Maybe<String> ITEM_ID = Maybe.just("noop-item");
+
+	private final TemplateConfiguration templateConfiguration = new TemplateConfiguration();
+
+	public NoOpItemLaunch(ReportPortalClient client, ListenerParameters parameters) {
+		super(client, parameters);
+	}
+
+	@Override
+	public boolean useMicroseconds() {
+		return false;
+	}
+
+	@Override
+	public Maybe<String> start() {
+		return LAUNCH_ID;
+	}
+
+	@Override
+	public void finish(FinishExecutionRQ rq) {
+	}
+
+	@Override
+	public Maybe<String> createVirtualItem() {
+		return ITEM_ID;
+	}
+
+	@Override
+	public Maybe<String> startTestItem(StartTestItemRQ rq) {
+		return ITEM_ID;
+	}
+
+	@Override
+	public Maybe<String> startTestItem(Maybe<String> parentId, StartTestItemRQ rq) {
+		return ITEM_ID;
+	}
+
+	@Override
+	public Maybe<String> startTestItem(Maybe<String> parentId, Maybe<String> retryOf, StartTestItemRQ rq) {
+		return ITEM_ID;
+	}
+
+	@Override
+	public Maybe<String> startVirtualTestItem(Maybe<String> parentId, StartTestItemRQ rq) {
+		return ITEM_ID;
+	}
+
+	@Override
+	public Maybe<String> startVirtualTestItem(Maybe<String> parentId, Maybe<String> retryOf, StartTestItemRQ rq) {
+		return ITEM_ID;
+	}
+
+	@Override
+	public void log(SaveLogRQ rq) {
+	}
+
+	@Override
+	public void log(Function<String, SaveLogRQ> logSupplier) {
+	}
+
+	@Override
+	public void log(Maybe<String> itemId, Function<String, SaveLogRQ> logSupplier) {
+	}
+
+	@Override
+	public Maybe<OperationCompletionRS> finishTestItem(Maybe<String> itemId, FinishTestItemRQ rq) {
+		return Maybe.empty();
+	}
+
+	@Override
+	public Maybe<String> getLaunch() {
+		return LAUNCH_ID;
+	}
+
+	@Override
+	public TemplateConfiguration getTemplateConfiguration() {
+		return templateConfiguration;
+	}
+}
@@ -0,0 +1,4 @@
+Feature: Test failed scenario with nested causes
+
+  Scenario: The scenario
+    Given I have a failed step with nested causes
@@ -0,0 +1,4 @@
+Feature: Test non-ASCII logs
+
+  Scenario: The scenario with non-ASCII logs
+    Given I have a step with non-ASCII logs
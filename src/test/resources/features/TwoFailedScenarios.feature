@@ -0,0 +1,7 @@
+Feature: Test two failed scenarios
+
+  Scenario: The first scenario
+    Given I have a failed step
+
+  Scenario: The second scenario
+    Given I have a failed step